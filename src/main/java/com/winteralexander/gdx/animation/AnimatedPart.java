@@ -64,6 +64,9 @@ public class AnimatedPart {
 
 	@Override
 	public AnimatedPart clone() {
+		if(getClass() == AnimatedPart.class)
+			return new AnimatedPart(this);
+
 		try {
 			return getClass().getConstructor(getClass()).newInstance(this);
 		} catch(Exception ex) {
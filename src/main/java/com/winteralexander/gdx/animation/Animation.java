@@ -1,196 +1,587 @@
 package com.winteralexander.gdx.animation;
 
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.math.Frustum;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.ObjectMap;
-import com.winteralexander.gdx.animation.math.Curve;
+import com.winteralexander.gdx.animation.drawable.DrawCommands;
+import com.winteralexander.gdx.animation.drawable.SpriteDrawable;
+import com.winteralexander.gdx.animation.drawable.TextureSpriteDrawable;
 
-import java.util.Comparator;
+import java.util.Arrays;
 import java.util.function.Consumer;
 
+import static com.winteralexander.gdx.animation.drawable.TextureSpriteDrawable.QUAD_SIZE;
+import static com.winteralexander.gdx.animation.math.Interpolator.linear;
+import static com.winteralexander.gdx.animation.math.Interpolator.spinAngle;
 import static java.lang.Math.min;
 
 /**
- * Represents an animation of a Spriter SCML file. An animation holds {@link Timeline}s and a
- * {@link Mainline} to animate objects. Furthermore it holds a {@link #length}, a {@link #name} and
- * whether it is {@link #looping} or not.
+ * Represents an animation of a Spriter SCML file being played. The {@link Timeline}s and the
+ * {@link Mainline} animating the objects are held by an {@link AnimationData} shared between all
+ * animations playing it, this class only holds the playback state ({@link #time},
+ * {@link #speed}, {@link #alpha}, transformations, {@link SpriteOverrides}) and the tweened
+ * parts.
  *
  * @author Alexander Winter
  */
 public class Animation {
-	private static final Comparator<Sprite> SPRITE_COMPARATOR =
-			Comparator.comparing(Sprite::getZIndex);
-
-	private final String name;
-	private final int length; // millis
-	private final Mainline mainline;
-	private final Array<Timeline> timelines;
-	private final Array<AnimatedPart> tweenedObjects; //sprites made on runtime by tweening
-	// original sprites from animation
+	private final AnimationData data;
+	private Pose pose; // tweened state of every part written by update, indexed by timeline id
+	private Pose frontPose; // pose read by draw, same as pose unless double buffered
+	private final Array<AnimatedPart> tweenedObjects; //views of the front pose, by timeline id
+	// views of the sprites of the front pose, in draw order
 	private final Array<Sprite> sprites;
-	private final ObjectMap<String, Consumer<AnimatedPart>> transformations = new ObjectMap<>();
+	// parts given to transformations when double buffered
+	private Array<AnimatedPart> transformedParts;
+	// transformations applied to the parts, by timeline id
+	private final Array<Consumer<AnimatedPart>> transformations;
+	private int transformationCount = 0;
 	private final AnimatedPart root = new AnimatedPart();
+	// vertices of the sprites submitted by draw
+	private float[] vertices;
 	private boolean looping;
 
-	private final ObjectMap<String, AnimatedPart> partsByName = new ObjectMap<>();
-
 	/**
 	 * Milliseconds
 	 */
 	private float time = 0;
+	private int mainlineCursor = 0; // index of the current mainline key
 	private float speed = 1f, alpha = 1f;
 	private boolean zIndexChanged = false;
 	private boolean inheritParentAlpha = true;
+	private boolean updatingParts = true;
+	private boolean bakedPlayback = true;
+	private boolean culled = false;
+
+	// level of detail
+	private float updateInterval = 0f; // millis
+	private float frameDuration = 0f; // millis
+	private boolean snapToKeys = false;
+	private int maxTweenedDepth = -1;
+	private float elapsedSinceEvaluation = Float.POSITIVE_INFINITY; // millis
+	private float evaluatedTime = Float.NaN; // sample time of the last evaluation
+
+	// incremented when something other than the time or the root affects the pose
+	private int version = 0, evaluatedVersion = -1;
+	// root transform of the last evaluation
+	private float rootX, rootY, rootScaleX, rootScaleY, rootAngle, rootAlpha;
+	private boolean poseChanged = false;
+
+	private SpriteOverrides overrides; // null until customized
+	private int evaluatedOverridesVersion = 0;
 
 	public Animation(String name, int length, boolean looping, Mainline mainline,
 	                 Array<Timeline> timelines) {
-		this.name = name;
+		this(new AnimationData(name, length, looping, mainline, timelines));
+	}
 
-		this.length = length;
-		this.looping = looping;
+	/**
+	 * Creates an animation playing the specified data. The data is shared and not copied.
+	 *
+	 * @param data data to play
+	 */
+	public Animation(AnimationData data) {
+		this.data = data;
+		this.looping = data.isLooping();
 
-		this.mainline = mainline;
-		this.timelines = timelines;
+		Array<Timeline> timelines = data.getTimelines();
 
+		pose = new Pose(timelines.size);
+		transformations = new Array<>(timelines.size);
+		transformations.setSize(timelines.size);
 		tweenedObjects = new Array<>();
 		tweenedObjects.setSize(timelines.size);
 		sprites = new Array<>();
 
-		for(Timeline timeline : timelines) {
+		for(int i = 0; i < timelines.size; i++) {
+			Timeline timeline = timelines.get(i);
+
 			if(timeline.getKeys().size > 0
 			&& timeline.getKeys().get(0).getObject() instanceof Sprite) {
 				Sprite sprite = new Sprite();
 				tweenedObjects.set(timeline.getId(), sprite);
 				sprites.add(sprite);
-			} else
+				pose.drawOrder[pose.drawOrderSize++] = timeline.getId();
+			} else {
 				tweenedObjects.set(timeline.getId(), new AnimatedPart());
+				pose.bone[timeline.getId()] = true;
+			}
 		}
+
+		frontPose = pose;
 	}
 
+	/**
+	 * Creates a new animation playing the same data as the specified one. The data is shared
+	 * between both animations, only the playback state is created.
+	 *
+	 * @param animation animation to copy
+	 */
 	public Animation(Animation animation) {
-		this(animation.name,
-				animation.length,
-				animation.looping,
-				new Mainline(animation.mainline),
-				Timeline.clone(animation.timelines));
+		this(animation.data);
+		this.looping = animation.looping;
 	}
 
+	/**
+	 * Draws the front pose of this animation, which is the last one updated unless this
+	 * animation is double buffered. Drawables are drawn from their {@link DrawCommands} when
+	 * they can be flattened, consecutive quads of the same texture are then submitted to the
+	 * batch as a single array of vertices.
+	 *
+	 * @param batch batch to draw into
+	 */
 	public void draw(Batch batch) {
-		if(zIndexChanged) {
-			sprites.sort(SPRITE_COMPARATOR);
-			zIndexChanged = false;
-		}
+		if(culled)
+			return;
 
+		Pose pose = frontPose;
+
+		Color color = batch.getColor();
+		float r = color.r, g = color.g, b = color.b, a = color.a * alpha;
 		float prevColor = batch.getPackedColor();
-		Color tmp = batch.getColor();
-		tmp.a *= alpha;
-		batch.setColor(tmp);
 
-		for(Sprite sprite : sprites)
-			sprite.draw(batch);
+		if(vertices == null)
+			vertices = new float[Math.max(pose.drawOrderSize, 1) * QUAD_SIZE];
+
+		Texture texture = null;
+		int count = 0;
+
+		for(int i = 0; i < pose.drawOrderSize; i++) {
+			int index = pose.drawOrder[i];
+			SpriteDrawable drawable = pose.drawables[index];
+
+			if(drawable == null || !pose.visible[index] || !pose.enabled[index])
+				continue;
+
+			float tintRed = r, tintGreen = g, tintBlue = b, tintAlpha = a;
+
+			if(overrides != null) {
+				tintRed *= overrides.getRed(index);
+				tintGreen *= overrides.getGreen(index);
+				tintBlue *= overrides.getBlue(index);
+				tintAlpha *= overrides.getAlpha(index);
+			}
+
+			DrawCommands commands = drawable.getDrawCommands();
+
+			if(commands != null) {
+				float spriteAlpha = tintAlpha * pose.alpha[index];
+
+				for(int j = 0; j < commands.size(); j++) {
+					TextureSpriteDrawable command = commands.getDrawable(j);
+
+					if(count + QUAD_SIZE > vertices.length)
+						vertices = Arrays.copyOf(vertices, vertices.length * 2);
+
+					if(!command.computeVertices(vertices, count,
+							pose.x[index], pose.y[index],
+							pose.scaleX[index], pose.scaleY[index], pose.angle[index],
+							Color.toFloatBits(tintRed * commands.getRed(j),
+									tintGreen * commands.getGreen(j),
+									tintBlue * commands.getBlue(j),
+									spriteAlpha * commands.getAlpha(j))))
+						continue;
+
+					Texture spriteTexture = command.getRegion().getTexture();
+					if(spriteTexture != texture && count > 0) {
+						batch.draw(texture, vertices, 0, count);
+						System.arraycopy(vertices, count, vertices, 0, QUAD_SIZE);
+						count = 0;
+					}
+					texture = spriteTexture;
+					count += QUAD_SIZE;
+				}
+			} else {
+				if(count > 0) {
+					batch.draw(texture, vertices, 0, count);
+					count = 0;
+				}
+
+				Sprite sprite = (Sprite)tweenedObjects.get(index);
+				if(!updatingParts)
+					pose.get(index, sprite);
+
+				batch.setColor(tintRed, tintGreen, tintBlue, tintAlpha);
+				drawable.draw(sprite, batch);
+				batch.setPackedColor(prevColor);
+			}
+		}
 
-		batch.setPackedColor(prevColor);
+		if(count > 0)
+			batch.draw(texture, vertices, 0, count);
+	}
+
+	/**
+	 * Adds the sprites of the front pose of this animation to the given queue, to be drawn along
+	 * with other animations
+	 *
+	 * @param queue queue to add the sprites to
+	 * @param layer layer of this animation in the queue
+	 * @see RenderQueue
+	 */
+	public void submit(RenderQueue queue, int layer) {
+		if(culled)
+			return;
+
+		Pose pose = frontPose;
+		Color color = queue.getColor();
+		float r = color.r, g = color.g, b = color.b, a = color.a * alpha;
+		// position in the draw order of every quad and drawable, the commands of a drawable
+		// are stacked too
+		int depth = 0;
+
+		for(int i = 0; i < pose.drawOrderSize; i++) {
+			int index = pose.drawOrder[i];
+			SpriteDrawable drawable = pose.drawables[index];
+
+			if(drawable == null || !pose.visible[index] || !pose.enabled[index])
+				continue;
+
+			float tintRed = r, tintGreen = g, tintBlue = b, tintAlpha = a;
+
+			if(overrides != null) {
+				tintRed *= overrides.getRed(index);
+				tintGreen *= overrides.getGreen(index);
+				tintBlue *= overrides.getBlue(index);
+				tintAlpha *= overrides.getAlpha(index);
+			}
+
+			DrawCommands commands = drawable.getDrawCommands();
+
+			if(commands != null) {
+				float spriteAlpha = tintAlpha * pose.alpha[index];
+
+				for(int j = 0; j < commands.size(); j++) {
+					TextureSpriteDrawable command = commands.getDrawable(j);
+					if(command.getRegion() == null || command.getRegion().getTexture() == null)
+						continue;
+
+					int offset = queue.addQuad(layer, depth++,
+							command.getRegion().getTexture());
+					command.computeVertices(queue.getVertices(), offset,
+							pose.x[index], pose.y[index],
+							pose.scaleX[index], pose.scaleY[index], pose.angle[index],
+							Color.toFloatBits(tintRed * commands.getRed(j),
+									tintGreen * commands.getGreen(j),
+									tintBlue * commands.getBlue(j),
+									spriteAlpha * commands.getAlpha(j)));
+				}
+			} else {
+				Sprite sprite = (Sprite)tweenedObjects.get(index);
+				if(!updatingParts)
+					pose.get(index, sprite);
+
+				queue.addDrawable(layer, depth++, drawable, sprite,
+						Color.toFloatBits(tintRed, tintGreen, tintBlue, tintAlpha));
+			}
+		}
 	}
 
 	/**
 	 * Updates this player. This means the current time gets increased by {@link #speed} and is
-	 * applied to the current animation.
+	 * applied to the current animation. Animations sharing the same {@link AnimationData} can be
+	 * updated concurrently from different threads, see {@link AnimationSystem}.
+	 * <p>
+	 * The pose is only evaluated when it can differ from the previous one, which is when the
+	 * time, the root or the settings of this animation changed, or when transformations are set.
+	 * Modifying the data of this animation directly requires calling {@link #invalidate()}.
 	 *
 	 * @param delta time in milliseconds
 	 */
 	public void update(float delta) {
 		setTime(time + speed * delta);
+		poseChanged = false;
+
+		if(culled)
+			return;
 
-		MainlineKey currentKey = mainline.getKeyBeforeTime((int)time, looping);
+		if(updateInterval > 0f) {
+			elapsedSinceEvaluation += Math.abs(delta);
+
+			if(elapsedSinceEvaluation < updateInterval) {
+				skipEvaluation();
+				return;
+			}
+			elapsedSinceEvaluation = 0f;
+		}
 
-		for(Sprite sprite : sprites)
-			sprite.setVisible(false);
+		float sampleTime = time;
+		if(frameDuration > 0f)
+			sampleTime = (float)Math.floor(time / frameDuration) * frameDuration;
 
-		for(ObjectRef ref : currentKey.objectRefs)
-			update(currentKey, ref, (int)time);
+		if(sampleTime == evaluatedTime && version == evaluatedVersion
+				&& transformationCount == 0 && !isRootChanged()
+				&& (overrides == null || overrides.getVersion() == evaluatedOverridesVersion)) {
+			skipEvaluation();
+			return;
+		}
+
+		evaluatedTime = sampleTime;
+		evaluatedVersion = version;
+		if(overrides != null)
+			evaluatedOverridesVersion = overrides.getVersion();
+		rootX = root.getPosition().x;
+		rootY = root.getPosition().y;
+		rootScaleX = root.getScale().x;
+		rootScaleY = root.getScale().y;
+		rootAngle = root.getAngle();
+		rootAlpha = root.getAlpha();
+		poseChanged = true;
+
+		BakedAnimation baked = data.getBaked();
+		if(bakedPlayback && baked != null && isBakeable()) {
+			updateBaked(baked, sampleTime);
+			return;
+		}
+
+		Mainline mainline = data.getMainline();
+		mainlineCursor = mainline.getKeyIndexBeforeTime((int)sampleTime, looping, mainlineCursor);
+		MainlineKey currentKey = mainline.getKeys().get(mainlineCursor);
+
+		for(int i = 0; i < pose.drawOrderSize; i++)
+			pose.visible[pose.drawOrder[i]] = false;
+
+		pose.setRoot(root);
+
+		Array<ObjectRef> refs = currentKey.objectRefs;
+		for(int i = 0; i < refs.size; i++)
+			update(currentKey, refs.get(i), (int)sampleTime);
+
+		int[] drawOrder = data.getDrawOrder(mainlineCursor);
+		System.arraycopy(drawOrder, 0, pose.drawOrder, 0, drawOrder.length);
+
+		// transformations may change the z-index of sprites, the precomputed order is then only
+		// a starting point
+		if(zIndexChanged) {
+			pose.sortDrawOrder();
+			zIndexChanged = false;
+		}
+
+		if(frontPose == pose)
+			updateParts();
 	}
 
-	protected void update(MainlineKey currentKey, ObjectRef ref, int time) {
-		//Get the timelines, the ref's pointing to
-		Timeline timeline = timelines.get(ref.timeline);
-		AnimatedPart tweened = tweenedObjects.get(ref.timeline);
+	private boolean isRootChanged() {
+		return rootX != root.getPosition().x
+				|| rootY != root.getPosition().y
+				|| rootScaleX != root.getScale().x
+				|| rootScaleY != root.getScale().y
+				|| rootAngle != root.getAngle()
+				|| rootAlpha != root.getAlpha();
+	}
 
-		TimelineKey key = timeline.getKeys().get(ref.key); //get the last previous key
+	/**
+	 * Keeps the pose of the previous evaluation. When double buffered, the back pose is brought
+	 * up to date with the front one so the next swap doesn't go back in time.
+	 */
+	private void skipEvaluation() {
+		if(frontPose != pose)
+			pose.set(frontPose);
+	}
 
-		TimelineKey nextKey;
-		int timeOfNext;
+	/**
+	 * Tells whether the samples of the baked data give the same pose as tweening. They don't
+	 * when transformations are set, when the parts snap to their keys or aren't all tweened,
+	 * when the looping differs from the one the data was baked with, or when the root is scaled
+	 * differently on each axis since the samples are mapped to the root as a whole rather than
+	 * through the hierarchy of bones.
+	 *
+	 * @return true if the pose can be sampled from the baked data, otherwise false
+	 */
+	private boolean isBakeable() {
+		return transformationCount == 0
+				&& !snapToKeys
+				&& maxTweenedDepth < 0
+				&& looping == data.isLooping()
+				&& Math.abs(root.getScale().x) == Math.abs(root.getScale().y);
+	}
 
-		Consumer<AnimatedPart> transform = transformations.get(timeline.getName());
+	/**
+	 * Updates the sprites of the pose from the samples of the baked data. Bones aren't updated.
+	 *
+	 * @param baked samples of the data of this animation
+	 * @param time time to sample in milliseconds
+	 */
+	private void updateBaked(BakedAnimation baked, float time) {
+		baked.sample(time, pose);
+		pose.setRoot(root);
 
-		if(ref.key + 1 == timeline.getKeys().size) {
-			if(!looping) {
-				//no need to tween, stay freezed at first sprite
+		for(int i = 0; i < pose.drawOrderSize; i++) {
+			pose.unmapFromRoot(pose.drawOrder[i], inheritParentAlpha);
 
-				if(tweened instanceof Sprite
-						&& key.getObject() instanceof Sprite
-						&& ((Sprite)tweened).getZIndex() != ((Sprite)key.getObject()).getZIndex())
-					zIndexChanged = true;
+			if(overrides != null)
+				overrides.apply(pose, pose.drawOrder[i]);
+		}
 
-				tweened.set(key.getObject());
+		if(frontPose == pose)
+			updateParts();
+	}
 
-				if(tweened instanceof Sprite) {
-					((Sprite)tweened).setVisible(true);
-					((Sprite)tweened).setEnabled(((Sprite)key.getObject()).isEnabled());
-				}
+	/**
+	 * Updates the parts and sprites views from the front pose if {@link #isUpdatingParts()}
+	 */
+	private void updateParts() {
+		if(!updatingParts)
+			return;
 
-				if(transform != null)
-					transform.accept(tweened);
+		sprites.clear();
+		for(int i = 0; i < frontPose.drawOrderSize; i++)
+			sprites.add((Sprite)tweenedObjects.get(frontPose.drawOrder[i]));
 
-				AnimatedPart parent = ref.parent != null ?
-						tweenedObjects.get(ref.parent.timeline) : root;
-				tweened.unmap(parent, inheritParentAlpha);
-				return;
-			}
+		for(int i = 0; i < tweenedObjects.size; i++)
+			frontPose.get(i, tweenedObjects.get(i));
+	}
 
-			nextKey = timeline.getKeys().get(0);
-			timeOfNext = nextKey.getTime() + length; //wrap around
-		} else {
+	/**
+	 * Makes the last updated pose the one drawn, then updates the views of the parts from it.
+	 * Does nothing unless this animation is double buffered. Must not be called during an
+	 * update or a draw.
+	 */
+	public void swap() {
+		if(frontPose == pose)
+			return;
+
+		Pose drawn = frontPose;
+		frontPose = pose;
+		pose = drawn;
+		updateParts();
+	}
+
+	protected void update(MainlineKey currentKey, ObjectRef ref, int time) {
+		int index = ref.timeline;
+
+		//Get the timelines, the ref's pointing to
+		Timeline timeline = data.getTimelines().get(index);
+
+		TimelineKey key = timeline.getKeys().get(ref.key); //get the last previous key
+		AnimatedPart obj1 = key.getObject();
+
+		TimelineKey nextKey = null; //stays null when there is no need to tween
+		int timeOfNext = 0;
+
+		if(ref.key + 1 < timeline.getKeys().size) {
 			nextKey = timeline.getKeys().get(ref.key + 1);
 			timeOfNext = nextKey.getTime();
+		} else if(looping) {
+			nextKey = timeline.getKeys().get(0);
+			timeOfNext = nextKey.getTime() + data.getLength(); //wrap around
 		}
 
+		if(obj1 instanceof Sprite) {
+			Sprite sprite = (Sprite)obj1;
 
-		float timeDiff = timeOfNext - key.getTime();
-		float timeRatio = currentKey.curve.interpolate(0f, 1f,
-				(min(time, timeOfNext) - key.getTime()) / timeDiff);
+			pose.zIndex[index] = sprite.getZIndex();
+			pose.drawables[index] = sprite.getDrawable();
+			pose.visible[index] = true;
+			pose.enabled[index] = sprite.isEnabled();
 
-		//Tween object
-		AnimatedPart obj1 = key.getObject();
-		AnimatedPart obj2 = nextKey.getObject();
+			if(overrides != null)
+				overrides.apply(pose, index);
+		}
 
-		Curve curve = key.getCurve();
+		// the drawable, z-index and enabled state were set above, with the overrides
+		if(nextKey == null || isSnapped(ref)) //stay freezed at last key
+			pose.setTransform(index, obj1);
+		else {
+			float timeDiff = timeOfNext - key.getTime();
+			float timeRatio = currentKey.curve.getWeight(
+					(min(time, timeOfNext) - key.getTime()) / timeDiff);
+
+			//Tween object, the curve is the same for every value
+			AnimatedPart obj2 = nextKey.getObject();
+			float weight = key.getCurve().getWeight(timeRatio);
+
+			pose.angle[index] = spinAngle(obj1.getAngle(), obj2.getAngle(), weight,
+					key.getSpin());
+			pose.x[index] = linear(obj1.getPosition().x, obj2.getPosition().x, weight);
+			pose.y[index] = linear(obj1.getPosition().y, obj2.getPosition().y, weight);
+			pose.scaleX[index] = linear(obj1.getScale().x, obj2.getScale().x, weight);
+			pose.scaleY[index] = linear(obj1.getScale().y, obj2.getScale().y, weight);
+			pose.alpha[index] = linear(obj1.getAlpha(), obj2.getAlpha(), weight);
+		}
 
-		tweened.setAngle(curve.interpolateAngle(obj1.getAngle(), obj2.getAngle(), timeRatio,
-				key.getSpin()));
+		AnimatedPart tweened = frontPose == pose
+				? tweenedObjects.get(index)
+				: transformedParts.get(index);
+		Consumer<AnimatedPart> transform = transformations.get(index);
 
-		curve.interpolateVector(obj1.getPosition(), obj2.getPosition(), timeRatio,
-				tweened.getPosition());
-		curve.interpolateVector(obj1.getScale(), obj2.getScale(), timeRatio, tweened.getScale());
-		tweened.setAlpha(curve.interpolate(obj1.getAlpha(),
-				obj2.getAlpha(), timeRatio));
+		if(transform != null) {
+			int zIndex = pose.zIndex[index];
 
-		if(tweened instanceof Sprite) {
-			((Sprite)tweened).setDrawable(((Sprite)obj1).getDrawable());
+			pose.get(index, tweened);
+			transform.accept(tweened);
+			pose.set(index, tweened);
 
-			if(((Sprite)tweened).getZIndex() != ((Sprite)obj1).getZIndex()) {
-				((Sprite)tweened).setZIndex(((Sprite)obj1).getZIndex());
-				zIndexChanged = true;
+			if(tweened instanceof Sprite) {
+				pose.visible[index] = ((Sprite)tweened).isVisible();
+				zIndexChanged |= pose.zIndex[index] != zIndex;
 			}
-			((Sprite)tweened).setVisible(true);
-			((Sprite)tweened).setEnabled(((Sprite)obj1).isEnabled());
 		}
 
-		if(transform != null)
-			transform.accept(tweened);
+		if(ref.parent != null)
+			pose.unmap(index, ref.parent.timeline, inheritParentAlpha);
+		else
+			pose.unmapFromRoot(index, inheritParentAlpha);
+
+		if(pose.bone[index])
+			pose.cacheTransform(index);
+	}
+
+	/**
+	 * Tests the bounding boxes of this animation with its current root transform against the
+	 * given frustum. Culled animations only advance their time when updated and aren't drawn,
+	 * until they are tested again. Animations without bounding boxes or with transformations
+	 * are never culled.
+	 *
+	 * @param frustum frustum of the camera
+	 * @return true if this animation is culled
+	 * @see AnimationData#computeBounds(float, float)
+	 */
+	public boolean cull(Frustum frustum) {
+		AnimationBounds bounds = data.getBounds();
+
+		if(bounds == null || transformationCount > 0) {
+			culled = false;
+			return false;
+		}
 
-		tweened.unmap(ref.parent != null ? tweenedObjects.get(ref.parent.timeline) : root, inheritParentAlpha);
-		partsByName.put(timeline.getName(), tweened);
+		mainlineCursor = data.getMainline()
+				.getKeyIndexBeforeTime((int)time, looping, mainlineCursor);
+		culled = !bounds.isVisible(mainlineCursor, root, frustum);
+		return culled;
+	}
+
+	public boolean isCulled() {
+		return culled;
+	}
+
+	public void setCulled(boolean culled) {
+		this.culled = culled;
+	}
+
+	/**
+	 * Returns whether the specified part is set to the values of its key without being tweened,
+	 * because of {@link #isSnapToKeys()} or {@link #getMaxTweenedDepth()}
+	 *
+	 * @param ref reference to the part
+	 * @return true if the part isn't tweened
+	 */
+	private boolean isSnapped(ObjectRef ref) {
+		if(snapToKeys)
+			return true;
+
+		if(maxTweenedDepth < 0)
+			return false;
+
+		int depth = 0;
+		for(ObjectRef parent = ref.parent; parent != null; parent = parent.parent)
+			if(++depth > maxTweenedDepth)
+				return true;
+
+		return false;
 	}
 
 	public void reset() {
@@ -198,24 +589,190 @@ public class Animation {
 		update(0);
 	}
 
+	/**
+	 * Restores the playback state of this animation to the one it was created with: the time,
+	 * speed, alpha, looping, root, transformations, overrides and culling are reset. Level of
+	 * detail, buffering and drawing settings are kept. When double buffered, both poses are
+	 * reset, no {@link #swap()} is needed before drawing.
+	 */
+	public void restore() {
+		if(overrides != null)
+			overrides.clear();
+
+		looping = data.isLooping();
+		speed = 1f;
+		alpha = 1f;
+		culled = false;
+		root.getPosition().setZero();
+		root.getScale().setZero();
+		root.setAngle(0f);
+		root.setAlpha(1f);
+		clearTransformations();
+		elapsedSinceEvaluation = Float.POSITIVE_INFINITY;
+		invalidate();
+		reset();
+
+		if(frontPose != pose) {
+			frontPose.set(pose);
+			updateParts();
+		}
+	}
+
 	public AnimatedPart getRoot() {
 		return root;
 	}
 
+	/**
+	 * Returns the tweened state of the parts of this animation being drawn. It is updated on
+	 * every {@link #update(float)}, even when {@link #isUpdatingParts()} is false, or on every
+	 * {@link #swap()} if this animation is double buffered.
+	 *
+	 * @return front pose of this animation
+	 */
+	public Pose getPose() {
+		return frontPose;
+	}
+
 	public Array<AnimatedPart> getParts() {
 		return tweenedObjects;
 	}
 
+	/**
+	 * Returns the id of the part with the specified name. Ids can be used instead of names to
+	 * access parts without any lookup. When multiple timelines have that name, the id of the
+	 * first one is returned.
+	 *
+	 * @param name name of the timeline of the part
+	 * @return id of the part, -1 if there is none with that name
+	 * @see #getPartIds(String)
+	 */
+	public int getPartId(String name) {
+		return data.getPartId(name);
+	}
+
+	/**
+	 * Returns the ids of all the parts with the specified name
+	 *
+	 * @param name name of the timelines of the parts
+	 * @return ids of the parts, empty if there is none with that name, must not be modified
+	 */
+	public int[] getPartIds(String name) {
+		return data.getPartIds(name);
+	}
+
+	/**
+	 * Returns the transformations of this animation by name of the timeline of their part. The
+	 * map is a copy, modifying it doesn't change the transformations.
+	 *
+	 * @return copy of the transformations by timeline name
+	 * @deprecated transformations are stored by part id, use {@link #getTransformation(int)} and
+	 * {@link #setTransformation(int, Consumer)}
+	 */
+	@Deprecated
 	public ObjectMap<String, Consumer<AnimatedPart>> getTransformations() {
-		return transformations;
+		ObjectMap<String, Consumer<AnimatedPart>> map = new ObjectMap<>(transformationCount);
+
+		for(int i = 0; i < transformations.size; i++)
+			if(transformations.get(i) != null)
+				map.put(data.getTimelines().get(i).getName(), transformations.get(i));
+
+		return map;
+	}
+
+	/**
+	 * Returns the transformation applied to the specified part after it is tweened
+	 *
+	 * @param id id of the part
+	 * @return the transformation, null if there is none
+	 */
+	public Consumer<AnimatedPart> getTransformation(int id) {
+		return transformations.get(id);
+	}
+
+	/**
+	 * Sets the transformation applied to the specified part after it is tweened
+	 *
+	 * @param id id of the part
+	 * @param transformation the transformation, null to remove it
+	 */
+	public void setTransformation(int id, Consumer<AnimatedPart> transformation) {
+		if(transformations.get(id) != null)
+			transformationCount--;
+		if(transformation != null)
+			transformationCount++;
+
+		transformations.set(id, transformation);
+		version++;
+	}
+
+	/**
+	 * Sets the transformation applied to the parts of the specified name after they are tweened
+	 *
+	 * @param name name of the timelines of the parts
+	 * @param transformation the transformation, null to remove it
+	 */
+	public void setTransformation(String name, Consumer<AnimatedPart> transformation) {
+		for(int id : getPartIds(name))
+			setTransformation(id, transformation);
+	}
+
+	public void clearTransformations() {
+		for(int i = 0; i < transformations.size; i++)
+			transformations.set(i, null);
+		transformationCount = 0;
+		version++;
+	}
+
+	public boolean hasTransformations() {
+		return transformationCount > 0;
+	}
+
+	/**
+	 * Returns the data this animation is playing. It can be shared with other animations and
+	 * should not be modified.
+	 *
+	 * @return data of this animation
+	 */
+	public AnimationData getData() {
+		return data;
+	}
+
+	/**
+	 * Returns the overrides customizing the sprites of this animation, created on first access
+	 *
+	 * @return overrides of this animation
+	 */
+	public SpriteOverrides getOverrides() {
+		if(overrides == null)
+			overrides = new SpriteOverrides(data.getTimelines().size);
+		return overrides;
+	}
+
+	public boolean hasOverrides() {
+		return overrides != null;
+	}
+
+	/**
+	 * Forces the pose to be evaluated on the next {@link #update(float)}, must be called after
+	 * modifying the data of this animation
+	 */
+	public void invalidate() {
+		version++;
+	}
+
+	/**
+	 * @return true if the last {@link #update(float)} evaluated a new pose
+	 */
+	public boolean isPoseChanged() {
+		return poseChanged;
 	}
 
 	public Array<Timeline> getTimelines() {
-		return timelines;
+		return data.getTimelines();
 	}
 
 	public String getName() {
-		return name;
+		return data.getName();
 	}
 
 	/**
@@ -228,6 +785,8 @@ public class Animation {
 	}
 
 	public void setTime(float time) {
+		int length = data.getLength();
+
 		if(looping)
 			while(time < 0)
 				time += length;
@@ -260,7 +819,7 @@ public class Animation {
 	}
 
 	public int getLength() {
-		return length;
+		return data.getLength();
 	}
 
 	public boolean isLooping() {
@@ -269,14 +828,20 @@ public class Animation {
 
 	public void setLooping(boolean looping) {
 		this.looping = looping;
+		version++;
 	}
 
 	public boolean isDone() {
-		return time == length;
+		return time == data.getLength();
 	}
 
 	public AnimatedPart getPart(String name) {
-		return partsByName.get(name);
+		int id = getPartId(name);
+		return id != -1 ? tweenedObjects.get(id) : null;
+	}
+
+	public AnimatedPart getPart(int id) {
+		return tweenedObjects.get(id);
 	}
 
 	public Array<Sprite> getSprites() {
@@ -289,5 +854,162 @@ public class Animation {
 
 	public void setSpritesInheritParentAlpha(boolean inheritParentAlpha) {
 		this.inheritParentAlpha = inheritParentAlpha;
+		version++;
+	}
+
+	public boolean isBakedPlayback() {
+		return bakedPlayback;
+	}
+
+	/**
+	 * Sets whether this animation is played back from the samples of its data when it was baked
+	 * with {@link AnimationData#bake(float)}. The animation is tweened instead while
+	 * transformations are set, while it snaps to keys or limits the tweened depth (see
+	 * {@link #setSnapToKeys(boolean)} and {@link #setMaxTweenedDepth(int)}), while its looping
+	 * differs from {@link AnimationData#isLooping()}, or while the absolute scales of its root
+	 * differ on each axis. Only sprites are updated during baked playback, bones keep their last
+	 * tweened state.
+	 *
+	 * @param bakedPlayback true to use the baked samples if available, otherwise false
+	 */
+	public void setBakedPlayback(boolean bakedPlayback) {
+		this.bakedPlayback = bakedPlayback;
+		version++;
+	}
+
+	public boolean isFastTrig() {
+		return pose.fastTrig;
+	}
+
+	/**
+	 * Sets whether the rotations of the bones are computed using the lookup tables of
+	 * {@link com.badlogic.gdx.math.MathUtils}, which is faster but less precise
+	 *
+	 * @param fastTrig true to use lookup tables, otherwise false
+	 */
+	public void setFastTrig(boolean fastTrig) {
+		pose.fastTrig = fastTrig;
+		frontPose.fastTrig = fastTrig;
+		version++;
+	}
+
+	public float getUpdateInterval() {
+		return updateInterval;
+	}
+
+	/**
+	 * Sets the minimum amount of time between two evaluations of the pose of this animation.
+	 * The time of the animation still advances on every {@link #update(float)}, but the pose is
+	 * only evaluated once that much time has passed since the last evaluation.
+	 *
+	 * @param updateInterval time in milliseconds, 0 to evaluate on every update
+	 */
+	public void setUpdateInterval(float updateInterval) {
+		this.updateInterval = updateInterval;
+		this.elapsedSinceEvaluation = Float.POSITIVE_INFINITY;
+	}
+
+	/**
+	 * @return frame rate the pose is stepped at, 0 if it isn't stepped
+	 */
+	public float getFrameRate() {
+		return frameDuration > 0f ? 1000f / frameDuration : 0f;
+	}
+
+	/**
+	 * Sets the frame rate the pose of this animation is stepped at. The pose is evaluated at the
+	 * start of the frame containing the current time, and updates are skipped until the time
+	 * reaches the next frame.
+	 *
+	 * @param frameRate amount of frames per second, 0 to evaluate the pose at the exact time
+	 */
+	public void setFrameRate(float frameRate) {
+		this.frameDuration = frameRate > 0f ? 1000f / frameRate : 0f;
+		this.evaluatedTime = Float.NaN;
+	}
+
+	public boolean isSnapToKeys() {
+		return snapToKeys;
+	}
+
+	/**
+	 * Sets whether the parts of this animation are set to the values of their previous key
+	 * instead of being tweened, as if every curve was instant
+	 *
+	 * @param snapToKeys true to skip tweening, otherwise false
+	 */
+	public void setSnapToKeys(boolean snapToKeys) {
+		this.snapToKeys = snapToKeys;
+		version++;
+	}
+
+	public int getMaxTweenedDepth() {
+		return maxTweenedDepth;
+	}
+
+	/**
+	 * Sets the maximum depth in the hierarchy of the parts that are tweened. Deeper parts are set
+	 * to the values of their previous key, only following the motion of their ancestors. Parts
+	 * without parent have a depth of 0.
+	 *
+	 * @param maxTweenedDepth maximum depth of tweened parts, -1 to tween all of them
+	 */
+	public void setMaxTweenedDepth(int maxTweenedDepth) {
+		this.maxTweenedDepth = maxTweenedDepth;
+		version++;
+	}
+
+	public boolean isDoubleBuffered() {
+		return frontPose != pose;
+	}
+
+	/**
+	 * Sets whether this animation is double buffered. When it is, {@link #update(float)} writes
+	 * to a back pose while {@link #draw(Batch)} reads the front pose, they can then run at the
+	 * same time on different threads. The back pose only becomes the front pose on
+	 * {@link #swap()}, which also updates the views returned by {@link #getParts()},
+	 * {@link #getPart(String)} and {@link #getSprites()}.
+	 * <p>
+	 * Transformations of double buffered animations receive parts distinct from the views.
+	 *
+	 * @param doubleBuffered true to double buffer, otherwise false
+	 */
+	public void setDoubleBuffered(boolean doubleBuffered) {
+		if(doubleBuffered == isDoubleBuffered())
+			return;
+
+		if(doubleBuffered) {
+			frontPose = new Pose(pose.size());
+			frontPose.set(pose);
+
+			if(transformedParts == null) {
+				transformedParts = new Array<>(tweenedObjects.size);
+				for(int i = 0; i < tweenedObjects.size; i++)
+					transformedParts.add(tweenedObjects.get(i) instanceof Sprite
+							? new Sprite()
+							: new AnimatedPart());
+			}
+		} else {
+			frontPose = pose;
+			updateParts();
+		}
+	}
+
+	public boolean isUpdatingParts() {
+		return updatingParts;
+	}
+
+	/**
+	 * Sets whether the {@link AnimatedPart}s returned by {@link #getParts()},
+	 * {@link #getPart(String)} and {@link #getSprites()} are updated along with the {@link Pose}
+	 * of this animation. Disabling it avoids copying the pose into every part each update, the
+	 * parts of big rigs can then be read from {@link #getPose()} instead. The order of
+	 * {@link #getSprites()} isn't updated either.
+	 *
+	 * @param updatingParts true to keep parts updated, otherwise false
+	 */
+	public void setUpdatingParts(boolean updatingParts) {
+		this.updatingParts = updatingParts;
+		version++;
 	}
 }
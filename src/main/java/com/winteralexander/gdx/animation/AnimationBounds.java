@@ -0,0 +1,225 @@
+package com.winteralexander.gdx.animation;
+
+import com.badlogic.gdx.math.Frustum;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.winteralexander.gdx.animation.drawable.DrawCommands;
+import com.winteralexander.gdx.animation.drawable.SpriteDrawable;
+import com.winteralexander.gdx.animation.drawable.TextureSpriteDrawable;
+
+/**
+ * Bounding boxes of the sprites of an {@link AnimationData}, relative to an untransformed root.
+ * A box is computed for every mainline key by sampling the animation at a fixed rate and at every
+ * key, then padded. They are used to skip animations that are off screen, see
+ * {@link Animation#cull(Frustum)}.
+ * <p>
+ * The boxes are sampled, not conservative: a sprite moving far enough between two samples can
+ * leave its box and the animation can be culled while that sprite is on screen. They are also
+ * computed from the drawables of the data, ignoring the drawables an {@link Animation} or
+ * {@link Entity} overrides, so bigger replacements can be culled too early. Computing them is
+ * therefore opt-in: the readers don't compute them unless given a sample rate.
+ * <p>
+ * Created on 2026-10-18.
+ *
+ * @author Alexander Winter
+ */
+public class AnimationBounds {
+	/**
+	 * Default amount of samples per second
+	 */
+	public static final float DEFAULT_SAMPLE_RATE = 30f;
+
+	/**
+	 * Default padding added on each side of the boxes, relative to their size
+	 */
+	public static final float DEFAULT_PADDING = 0.05f;
+
+	private static final int MIN_X = 0, MIN_Y = 1, MAX_X = 2, MAX_Y = 3;
+
+	/**
+	 * False if the animation draws something of unknown size, such as another animation, in
+	 * which case it can't be culled
+	 */
+	private final boolean bounded;
+
+	// minX, minY, maxX, maxY per mainline key
+	private final float[] keyBounds;
+	private final Rectangle bounds = new Rectangle();
+
+	/**
+	 * Computes the bounds of the specified data
+	 *
+	 * @param data data to compute the bounds of
+	 * @param sampleRate amount of samples per second
+	 * @param padding padding added on each side of the boxes, relative to their size
+	 */
+	public AnimationBounds(AnimationData data, float sampleRate, float padding) {
+		if(sampleRate <= 0f)
+			throw new IllegalArgumentException("Sample rate must be positive");
+
+		Mainline mainline = data.getMainline();
+		int keyCount = mainline.getKeys().size;
+		keyBounds = new float[keyCount * 4];
+
+		for(int i = 0; i < keyCount; i++) {
+			keyBounds[i * 4 + MIN_X] = Float.POSITIVE_INFINITY;
+			keyBounds[i * 4 + MIN_Y] = Float.POSITIVE_INFINITY;
+			keyBounds[i * 4 + MAX_X] = Float.NEGATIVE_INFINITY;
+			keyBounds[i * 4 + MAX_Y] = Float.NEGATIVE_INFINITY;
+		}
+
+		Animation animation = new Animation(data);
+		animation.setUpdatingParts(false);
+		animation.setBakedPlayback(false);
+		animation.getRoot().setScale(1f);
+
+		float frameDuration = 1000f / sampleRate;
+		int frameCount = (int)Math.ceil(data.getLength() / frameDuration) + 1;
+		boolean bounded = true;
+
+		for(int i = 0; i < frameCount + keyCount * 2 && bounded; i++) {
+			float time;
+			if(i < frameCount)
+				time = Math.min(i * frameDuration, data.getLength());
+			else {
+				// start and end of every key, where the motion usually peaks
+				int key = (i - frameCount) / 2;
+				time = mainline.getKeys().get(key).time;
+
+				if((i - frameCount) % 2 == 1)
+					time = (key + 1 < keyCount
+							? mainline.getKeys().get(key + 1).time
+							: data.getLength()) - 1f;
+			}
+
+			if(time < 0f || time > data.getLength())
+				continue;
+
+			animation.setTime(time);
+			animation.update(0f);
+			int key = mainline.getKeyIndexBeforeTime((int)time, data.isLooping());
+			bounded = add(animation.getPose(), key);
+		}
+
+		this.bounded = bounded;
+		boolean empty = true;
+
+		for(int i = 0; i < keyCount; i++) {
+			int offset = i * 4;
+			if(keyBounds[offset + MIN_X] > keyBounds[offset + MAX_X])
+				continue;
+
+			float padX = (keyBounds[offset + MAX_X] - keyBounds[offset + MIN_X]) * padding;
+			float padY = (keyBounds[offset + MAX_Y] - keyBounds[offset + MIN_Y]) * padding;
+			keyBounds[offset + MIN_X] -= padX;
+			keyBounds[offset + MIN_Y] -= padY;
+			keyBounds[offset + MAX_X] += padX;
+			keyBounds[offset + MAX_Y] += padY;
+
+			if(empty)
+				bounds.set(keyBounds[offset + MIN_X], keyBounds[offset + MIN_Y], 0f, 0f);
+			empty = false;
+			bounds.merge(keyBounds[offset + MIN_X], keyBounds[offset + MIN_Y]);
+			bounds.merge(keyBounds[offset + MAX_X], keyBounds[offset + MAX_Y]);
+		}
+	}
+
+	/**
+	 * Extends the box of the specified key with the visible sprites of the given pose
+	 *
+	 * @return false if a sprite of unknown size is visible
+	 */
+	private boolean add(Pose pose, int key) {
+		for(int i = 0; i < pose.drawOrderSize; i++) {
+			int index = pose.drawOrder[i];
+			SpriteDrawable drawable = pose.drawables[index];
+
+			if(drawable == null || !pose.visible[index] || !pose.enabled[index])
+				continue;
+
+			DrawCommands commands = drawable.getDrawCommands();
+			if(commands == null)
+				return false;
+
+			float cos = MathUtils.cosDeg(pose.angle[index]);
+			float sin = MathUtils.sinDeg(pose.angle[index]);
+
+			for(int j = 0; j < commands.size(); j++) {
+				TextureSpriteDrawable command = commands.getDrawable(j);
+				float originX = command.getWidth() * command.getPivotX();
+				float originY = command.getHeight() * command.getPivotY();
+				float x1 = -originX * pose.scaleX[index];
+				float y1 = -originY * pose.scaleY[index];
+				float x2 = (command.getWidth() - originX) * pose.scaleX[index];
+				float y2 = (command.getHeight() - originY) * pose.scaleY[index];
+
+				add(key, pose.x[index] + cos * x1 - sin * y1, pose.y[index] + sin * x1 + cos * y1);
+				add(key, pose.x[index] + cos * x1 - sin * y2, pose.y[index] + sin * x1 + cos * y2);
+				add(key, pose.x[index] + cos * x2 - sin * y2, pose.y[index] + sin * x2 + cos * y2);
+				add(key, pose.x[index] + cos * x2 - sin * y1, pose.y[index] + sin * x2 + cos * y1);
+			}
+		}
+		return true;
+	}
+
+	private void add(int key, float x, float y) {
+		int offset = key * 4;
+		keyBounds[offset + MIN_X] = Math.min(keyBounds[offset + MIN_X], x);
+		keyBounds[offset + MIN_Y] = Math.min(keyBounds[offset + MIN_Y], y);
+		keyBounds[offset + MAX_X] = Math.max(keyBounds[offset + MAX_X], x);
+		keyBounds[offset + MAX_Y] = Math.max(keyBounds[offset + MAX_Y], y);
+	}
+
+	/**
+	 * Tests whether anything drawn during the specified key can be inside the given frustum once
+	 * transformed by the root of an animation
+	 *
+	 * @param key index of the mainline key
+	 * @param root root of the animation
+	 * @param frustum frustum of the camera
+	 * @return false if nothing drawn can be inside the frustum
+	 */
+	public boolean isVisible(int key, AnimatedPart root, Frustum frustum) {
+		if(!bounded)
+			return true;
+
+		int offset = key * 4;
+		float minX = keyBounds[offset + MIN_X], minY = keyBounds[offset + MIN_Y];
+		float maxX = keyBounds[offset + MAX_X], maxY = keyBounds[offset + MAX_Y];
+
+		if(minX > maxX) // nothing drawn
+			return false;
+
+		float scaleX = root.getScale().x, scaleY = root.getScale().y;
+		float cos = MathUtils.cosDeg(root.getAngle());
+		float sin = MathUtils.sinDeg(root.getAngle());
+
+		// extents of the transformed box around its transformed center
+		float centerX = (minX + maxX) * 0.5f * scaleX;
+		float centerY = (minY + maxY) * 0.5f * scaleY;
+		float halfWidth = (maxX - minX) * 0.5f * Math.abs(scaleX);
+		float halfHeight = (maxY - minY) * 0.5f * Math.abs(scaleY);
+
+		float x = root.getPosition().x + cos * centerX - sin * centerY;
+		float y = root.getPosition().y + sin * centerX + cos * centerY;
+		float extentX = Math.abs(cos) * halfWidth + Math.abs(sin) * halfHeight;
+		float extentY = Math.abs(sin) * halfWidth + Math.abs(cos) * halfHeight;
+
+		// animations are flat, their depth is ignored
+		return frustum.boundsInFrustum(x, y, 0f, extentX, extentY, Float.MAX_VALUE);
+	}
+
+	/**
+	 * @return false if the animation draws something of unknown size and is never culled
+	 */
+	public boolean isBounded() {
+		return bounded;
+	}
+
+	/**
+	 * @return box containing every key of the animation, relative to an untransformed root
+	 */
+	public Rectangle getBounds() {
+		return bounds;
+	}
+}
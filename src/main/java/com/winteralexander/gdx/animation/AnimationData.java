@@ -0,0 +1,218 @@
+package com.winteralexander.gdx.animation;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * Keyframe data of an {@link Animation}, as loaded from a Spriter SCML file. It is shared between
+ * every {@link Animation} playing it and must be considered read-only once an animation has been
+ * created from it.
+ * <p>
+ * Created on 2026-10-18.
+ *
+ * @author Alexander Winter
+ */
+public class AnimationData {
+	private static final int[] NO_PARTS = new int[0];
+
+	private final String name;
+	private final int length; // millis
+	private final boolean looping;
+	private final Mainline mainline;
+	private final Array<Timeline> timelines;
+	private final ObjectMap<String, int[]> partIds; // timeline ids by name
+	private final int[][] drawOrders;
+	private BakedAnimation baked;
+	private AnimationBounds bounds;
+
+	public AnimationData(String name, int length, boolean looping, Mainline mainline,
+	                     Array<Timeline> timelines) {
+		this.name = name;
+		this.length = length;
+		this.looping = looping;
+		this.mainline = mainline;
+		this.timelines = timelines;
+
+		ObjectMap<String, IntArray> partIds = new ObjectMap<>(timelines.size);
+
+		for(int i = 0; i < timelines.size; i++) {
+			IntArray ids = partIds.get(timelines.get(i).getName());
+
+			if(ids == null) {
+				ids = new IntArray(1);
+				partIds.put(timelines.get(i).getName(), ids);
+			}
+			ids.add(timelines.get(i).getId());
+		}
+
+		this.partIds = new ObjectMap<>(partIds.size);
+		for(ObjectMap.Entry<String, IntArray> entry : partIds)
+			this.partIds.put(entry.key, entry.value.toArray());
+
+		this.drawOrders = computeDrawOrders(mainline, timelines);
+	}
+
+	/**
+	 * Deep copies the specified data, the copy can then be modified without affecting the
+	 * original
+	 *
+	 * @param other data to copy
+	 */
+	public AnimationData(AnimationData other) {
+		this(other.name,
+				other.length,
+				other.looping,
+				new Mainline(other.mainline),
+				Timeline.clone(other.timelines));
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public int getLength() {
+		return length;
+	}
+
+	/**
+	 * @return true if animations created from this data loop by default
+	 */
+	public boolean isLooping() {
+		return looping;
+	}
+
+	public Mainline getMainline() {
+		return mainline;
+	}
+
+	public Array<Timeline> getTimelines() {
+		return timelines;
+	}
+
+	/**
+	 * Returns the id of the part with the specified name, which is the id of its timeline. When
+	 * multiple timelines have that name, the id of the first one is returned, see
+	 * {@link #getPartIds(String)} to get all of them.
+	 *
+	 * @param name name of the timeline
+	 * @return id of the part, -1 if there is none with that name
+	 */
+	public int getPartId(String name) {
+		int[] ids = partIds.get(name);
+		return ids != null ? ids[0] : -1;
+	}
+
+	/**
+	 * Returns the ids of all the parts with the specified name, in the order of their timelines
+	 *
+	 * @param name name of the timelines
+	 * @return ids of the parts, empty if there is none with that name, must not be modified
+	 */
+	public int[] getPartIds(String name) {
+		return partIds.get(name, NO_PARTS);
+	}
+
+	/**
+	 * Returns the order in which the sprites have to be drawn during the specified mainline key.
+	 * It contains the timeline id of every sprite of the animation, starting with the sprites
+	 * referenced by the key sorted by z-index.
+	 *
+	 * @param keyIndex index of the mainline key
+	 * @return timeline ids of the sprites in draw order, must not be modified
+	 */
+	public int[] getDrawOrder(int keyIndex) {
+		return drawOrders[keyIndex];
+	}
+
+	/**
+	 * Samples this data at the given rate so that animations playing it can be played back from
+	 * the samples instead of being tweened
+	 *
+	 * @param sampleRate amount of samples per second
+	 * @see Animation#setBakedPlayback(boolean)
+	 */
+	public void bake(float sampleRate) {
+		baked = new BakedAnimation(this, sampleRate);
+	}
+
+	/**
+	 * @return the samples of this data, null if it wasn't baked
+	 */
+	public BakedAnimation getBaked() {
+		return baked;
+	}
+
+	/**
+	 * Computes the bounding boxes of this data so that animations playing it can be culled. The
+	 * boxes are sampled and ignore drawable overrides, see {@link AnimationBounds}.
+	 *
+	 * @param sampleRate amount of samples per second
+	 * @param padding padding added on each side of the boxes, relative to their size
+	 * @see Animation#cull(com.badlogic.gdx.math.Frustum)
+	 */
+	public void computeBounds(float sampleRate, float padding) {
+		bounds = new AnimationBounds(this, sampleRate, padding);
+	}
+
+	/**
+	 * @return the bounding boxes of this data, null if they weren't computed
+	 */
+	public AnimationBounds getBounds() {
+		return bounds;
+	}
+
+	private static boolean isSprite(Timeline timeline) {
+		return timeline.getKeys().size > 0
+				&& timeline.getKeys().get(0).getObject() instanceof Sprite;
+	}
+
+	private static int[][] computeDrawOrders(Mainline mainline, Array<Timeline> timelines) {
+		int spriteCount = 0;
+		for(int i = 0; i < timelines.size; i++)
+			if(isSprite(timelines.get(i)))
+				spriteCount++;
+
+		Array<MainlineKey> keys = mainline.getKeys();
+		int[][] drawOrders = new int[keys.size][];
+		int[] zIndex = new int[timelines.size];
+		boolean[] referenced = new boolean[timelines.size];
+
+		for(int k = 0; k < keys.size; k++) {
+			int[] order = new int[spriteCount];
+			int size = 0;
+			Array<ObjectRef> refs = keys.get(k).objectRefs;
+
+			for(int i = 0; i < timelines.size; i++)
+				referenced[i] = false;
+
+			for(int i = 0; i < refs.size; i++) {
+				ObjectRef ref = refs.get(i);
+				Timeline timeline = timelines.get(ref.timeline);
+
+				if(!isSprite(timeline) || referenced[ref.timeline])
+					continue;
+
+				int z = ((Sprite)timeline.getKeys().get(ref.key).getObject()).getZIndex();
+				int j = size - 1;
+
+				while(j >= 0 && zIndex[order[j]] > z) {
+					order[j + 1] = order[j];
+					j--;
+				}
+				order[j + 1] = ref.timeline;
+				zIndex[ref.timeline] = z;
+				referenced[ref.timeline] = true;
+				size++;
+			}
+
+			for(int i = 0; i < timelines.size; i++)
+				if(isSprite(timelines.get(i)) && !referenced[timelines.get(i).getId()])
+					order[size++] = timelines.get(i).getId();
+
+			drawOrders[k] = order;
+		}
+
+		return drawOrders;
+	}
+}
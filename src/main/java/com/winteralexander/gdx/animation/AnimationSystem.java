@@ -0,0 +1,199 @@
+package com.winteralexander.gdx.animation;
+
+import com.badlogic.gdx.math.Frustum;
+import com.badlogic.gdx.utils.Array;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Updates many independent {@link Animation}s in parallel on a {@link ForkJoinPool}. The
+ * animations are split in chunks updated concurrently and {@link #update(float)} returns once
+ * all of them are updated, so they can then be drawn from the render thread.
+ * <p>
+ * Animations can be updated concurrently as long as each of them is only updated by a single
+ * thread at once, and their transformations don't access shared state.
+ * <p>
+ * Double buffered animations (see {@link Animation#setDoubleBuffered(boolean)}) can be updated
+ * with {@link #updateAsync(float)} while the previous frame is being drawn:
+ * <pre>
+ * system.swap(); // waits for the previous update, then makes it the one drawn
+ * system.updateAsync(delta); // evaluates the next frame on the pool
+ * // draw the animations
+ * </pre>
+ * <p>
+ * When a frustum is set, every animation is culled against it before being updated, so that
+ * animations off screen only advance their time (see {@link Animation#cull(Frustum)}).
+ * <p>
+ * Created on 2026-10-18.
+ *
+ * @author Alexander Winter
+ */
+public class AnimationSystem {
+	/**
+	 * Default amount of animations updated sequentially by a single task
+	 */
+	public static final int DEFAULT_CHUNK_SIZE = 64;
+
+	private final ForkJoinPool pool;
+	private final Array<Animation> animations = new Array<>();
+	private int chunkSize = DEFAULT_CHUNK_SIZE;
+	private ForkJoinTask<?> pendingUpdate;
+	private Frustum frustum;
+
+	/**
+	 * Creates an animation system updating its animations on the common pool
+	 */
+	public AnimationSystem() {
+		this(ForkJoinPool.commonPool());
+	}
+
+	public AnimationSystem(ForkJoinPool pool) {
+		this.pool = pool;
+	}
+
+	/**
+	 * Updates all the animations of this system, blocking until they are all updated. The
+	 * animations of this system must not be added or removed during an update.
+	 *
+	 * @param delta time in milliseconds
+	 */
+	public void update(float delta) {
+		update(animations, delta);
+	}
+
+	/**
+	 * Updates all the specified animations, blocking until they are all updated
+	 *
+	 * @param animations animations to update, each of them at most once
+	 * @param delta time in milliseconds
+	 */
+	public void update(Array<Animation> animations, float delta) {
+		if(animations.size <= chunkSize) {
+			for(int i = 0; i < animations.size; i++)
+				update(animations.get(i), delta);
+			return;
+		}
+
+		pool.invoke(new UpdateTask(animations, 0, animations.size, delta));
+	}
+
+	private void update(Animation animation, float delta) {
+		if(frustum != null)
+			animation.cull(frustum);
+		animation.update(delta);
+	}
+
+	/**
+	 * Starts updating all the animations of this system on the pool without waiting for them to
+	 * be updated. The animations must be double buffered so that they can be drawn in the
+	 * meantime, the update is made visible by {@link #swap()}.
+	 *
+	 * @param delta time in milliseconds
+	 */
+	public void updateAsync(float delta) {
+		await();
+		pendingUpdate = pool.submit(new UpdateTask(animations, 0, animations.size, delta));
+	}
+
+	/**
+	 * Waits for the update started by {@link #updateAsync(float)} to finish, then swaps the poses
+	 * of all the animations of this system so their last update is the one drawn.
+	 */
+	public void swap() {
+		await();
+
+		for(int i = 0; i < animations.size; i++)
+			animations.get(i).swap();
+	}
+
+	/**
+	 * Waits for the update started by {@link #updateAsync(float)} to finish, if any
+	 */
+	public void await() {
+		if(pendingUpdate != null) {
+			pendingUpdate.join();
+			pendingUpdate = null;
+		}
+	}
+
+	public void add(Animation animation) {
+		animations.add(animation);
+	}
+
+	public boolean remove(Animation animation) {
+		return animations.removeValue(animation, true);
+	}
+
+	public void clear() {
+		animations.clear();
+	}
+
+	public Array<Animation> getAnimations() {
+		return animations;
+	}
+
+	public Frustum getFrustum() {
+		return frustum;
+	}
+
+	/**
+	 * Sets the frustum the animations are culled against before being updated. It must not be
+	 * modified during an update.
+	 *
+	 * @param frustum frustum of the camera, null to not cull the animations
+	 */
+	public void setFrustum(Frustum frustum) {
+		this.frustum = frustum;
+	}
+
+	public ForkJoinPool getPool() {
+		return pool;
+	}
+
+	public int getChunkSize() {
+		return chunkSize;
+	}
+
+	/**
+	 * Sets the maximum amount of animations updated sequentially by a single task. Smaller
+	 * chunks balance the work better between threads at the cost of more tasks.
+	 *
+	 * @param chunkSize amount of animations per task
+	 */
+	public void setChunkSize(int chunkSize) {
+		if(chunkSize < 1)
+			throw new IllegalArgumentException("Chunk size must be at least 1");
+
+		this.chunkSize = chunkSize;
+	}
+
+	private class UpdateTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final Array<Animation> animations;
+		private final int start, end;
+		private final float delta;
+
+		private UpdateTask(Array<Animation> animations, int start, int end, float delta) {
+			this.animations = animations;
+			this.start = start;
+			this.end = end;
+			this.delta = delta;
+		}
+
+		@Override
+		protected void compute() {
+			if(end - start <= chunkSize) {
+				for(int i = start; i < end; i++)
+					update(animations.get(i), delta);
+				return;
+			}
+
+			int middle = (start + end) >>> 1;
+			invokeAll(new UpdateTask(animations, start, middle, delta),
+					new UpdateTask(animations, middle, end, delta));
+		}
+	}
+}
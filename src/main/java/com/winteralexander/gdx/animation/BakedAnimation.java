@@ -0,0 +1,149 @@
+package com.winteralexander.gdx.animation;
+
+import com.winteralexander.gdx.animation.drawable.SpriteDrawable;
+
+import static com.winteralexander.gdx.animation.math.Interpolator.linear;
+import static com.winteralexander.gdx.animation.math.Interpolator.linearAngle;
+
+/**
+ * {@link AnimationData} sampled at a fixed rate into the transform, draw order and drawable of
+ * every sprite of the animation, relative to an untransformed root. Playing it only requires
+ * interpolating between two samples, without any curve evaluation or hierarchy walk. Higher
+ * sample rates are more accurate but use more memory.
+ * <p>
+ * The samples are taken with the looping of the data, a root of uniform scale and every part
+ * tweened. Animations playing with another looping, a non-uniformly scaled root, or snapping some
+ * of their parts to keys are tweened instead, see {@link Animation#setBakedPlayback(boolean)}.
+ * <p>
+ * Created on 2026-10-18.
+ *
+ * @author Alexander Winter
+ */
+public class BakedAnimation {
+	private static final int X = 0, Y = 1, SCALE_X = 2, SCALE_Y = 3, ANGLE = 4, ALPHA = 5;
+	private static final int STRIDE = 6;
+
+	private final float sampleRate; // samples per second
+	private final float frameDuration; // millis
+	private final int length, frameCount, spriteCount;
+
+	/**
+	 * Timeline id of every sprite of the animation
+	 */
+	private final int[] spriteTimelines;
+
+	// per frame and per sprite
+	private final float[] transforms;
+	private final int[] drawOrder;
+	private final boolean[] visible, enabled;
+	private final SpriteDrawable[] drawables;
+
+	/**
+	 * Samples the specified data at the given rate
+	 *
+	 * @param data data to bake
+	 * @param sampleRate amount of samples per second
+	 */
+	public BakedAnimation(AnimationData data, float sampleRate) {
+		if(sampleRate <= 0f)
+			throw new IllegalArgumentException("Sample rate must be positive");
+
+		this.sampleRate = sampleRate;
+		this.frameDuration = 1000f / sampleRate;
+		this.length = data.getLength();
+		this.frameCount = (int)Math.ceil(length / frameDuration) + 1;
+
+		Animation animation = new Animation(data);
+		animation.setUpdatingParts(false);
+		animation.setBakedPlayback(false);
+		animation.getRoot().setScale(1f);
+		Pose pose = animation.getPose();
+
+		spriteCount = pose.drawOrderSize;
+		spriteTimelines = new int[spriteCount];
+		System.arraycopy(pose.drawOrder, 0, spriteTimelines, 0, spriteCount);
+
+		transforms = new float[frameCount * spriteCount * STRIDE];
+		drawOrder = new int[frameCount * spriteCount];
+		visible = new boolean[frameCount * spriteCount];
+		enabled = new boolean[frameCount * spriteCount];
+		drawables = new SpriteDrawable[frameCount * spriteCount];
+
+		for(int frame = 0; frame < frameCount; frame++) {
+			animation.setTime(getFrameTime(frame));
+			animation.update(0f);
+
+			for(int i = 0; i < spriteCount; i++) {
+				int index = spriteTimelines[i];
+				int sample = frame * spriteCount + i;
+				int offset = sample * STRIDE;
+
+				transforms[offset + X] = pose.x[index];
+				transforms[offset + Y] = pose.y[index];
+				transforms[offset + SCALE_X] = pose.scaleX[index];
+				transforms[offset + SCALE_Y] = pose.scaleY[index];
+				transforms[offset + ANGLE] = pose.angle[index];
+				transforms[offset + ALPHA] = pose.alpha[index];
+				visible[sample] = pose.visible[index];
+				enabled[sample] = pose.enabled[index];
+				drawables[sample] = pose.drawables[index];
+				drawOrder[sample] = pose.drawOrder[i];
+			}
+		}
+	}
+
+	/**
+	 * Writes the sprites of this animation at the specified time into the given pose. Only the
+	 * sprites are written, other parts of the pose are left untouched.
+	 *
+	 * @param time time in milliseconds, between 0 and the length of the animation
+	 * @param pose pose to write to
+	 */
+	public void sample(float time, Pose pose) {
+		float position = Math.max(0f, Math.min(time, length)) / frameDuration;
+		int frame = Math.min((int)position, frameCount - 1);
+		int next = Math.min(frame + 1, frameCount - 1);
+
+		float frameTime = getFrameTime(frame);
+		float nextTime = getFrameTime(next);
+		float t = nextTime > frameTime ? (time - frameTime) / (nextTime - frameTime) : 0f;
+
+		for(int i = 0; i < spriteCount; i++) {
+			int index = spriteTimelines[i];
+			int sample = frame * spriteCount + i;
+			int a = sample * STRIDE;
+			int b = (next * spriteCount + i) * STRIDE;
+
+			pose.x[index] = linear(transforms[a + X], transforms[b + X], t);
+			pose.y[index] = linear(transforms[a + Y], transforms[b + Y], t);
+			pose.scaleX[index] = linear(transforms[a + SCALE_X], transforms[b + SCALE_X], t);
+			pose.scaleY[index] = linear(transforms[a + SCALE_Y], transforms[b + SCALE_Y], t);
+			pose.angle[index] = linearAngle(transforms[a + ANGLE], transforms[b + ANGLE], t);
+			pose.alpha[index] = linear(transforms[a + ALPHA], transforms[b + ALPHA], t);
+			pose.visible[index] = visible[sample];
+			pose.enabled[index] = enabled[sample];
+			pose.drawables[index] = drawables[sample];
+			pose.drawOrder[i] = drawOrder[sample];
+		}
+		pose.drawOrderSize = spriteCount;
+	}
+
+	private float getFrameTime(int frame) {
+		return Math.min(frame * frameDuration, length);
+	}
+
+	/**
+	 * @return timeline ids of the sprites written by {@link #sample(float, Pose)}
+	 */
+	public int[] getSpriteTimelines() {
+		return spriteTimelines;
+	}
+
+	public float getSampleRate() {
+		return sampleRate;
+	}
+
+	public int getFrameCount() {
+		return frameCount;
+	}
+}
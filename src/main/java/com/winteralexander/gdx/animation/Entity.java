@@ -2,19 +2,24 @@ package com.winteralexander.gdx.animation;
 
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool.Poolable;
 import com.winteralexander.gdx.animation.drawable.SpriteDrawable;
-import com.winteralexander.gdx.animation.drawable.TintedSpriteDrawable;
 
 import java.util.function.Consumer;
 
 /**
  * Represents a set of animation under a common name. Usually associated to a single game object.
+ * Entities created from the same {@link EntityData} share their keyframes, customizations of their
+ * sprites are stored as {@link SpriteOverrides} of each entity.
+ * Entities can be recycled with an {@link EntityPool}.
  *
  * @author Alexander Winter
  */
-public class Entity {
+public class Entity implements Poolable {
 	private final String name;
 	private final Array<Animation> animations;
+	// indexes of the animations by name, built on demand until invalidated
+	private EntityData data;
 
 	public Entity(String name) {
 		this(name, new Array<>());
@@ -25,84 +30,153 @@ public class Entity {
 		this.animations = animations;
 	}
 
+	/**
+	 * Creates an entity playing the animations of the specified data
+	 *
+	 * @param data data of the entity
+	 */
+	public Entity(EntityData data) {
+		this.name = data.getName();
+		this.animations = new Array<>(data.getAnimations().size);
+		this.data = data;
+
+		for(int i = 0; i < data.getAnimations().size; i++)
+			animations.add(new Animation(data.getAnimations().get(i)));
+	}
+
 	public Entity(Entity entity) {
 		this.name = entity.name;
 		this.animations = new Array<>(entity.animations.size);
+		this.data = entity.data;
 
 		for(Animation animation : entity.animations)
 			animations.add(new Animation(animation));
 	}
 
+	/**
+	 * Returns the drawables the name specified sprite is drawn with, one for every keyframe of
+	 * every animation, with the overrides of this entity applied
+	 *
+	 * @param name name of the sprite
+	 * @return drawables of the sprite
+	 */
 	public Array<SpriteDrawable> getSpriteDrawables(String name) {
 		Array<SpriteDrawable> drawables = new Array<>();
+		int[] parts = getData().getParts(name);
 
-		for(Animation animation : animations)
-			for(Timeline timeline : animation.getTimelines())
-				if(timeline.getName().equals(name))
-					for(TimelineKey key : timeline.getKeys())
-						if(key.getObject() instanceof Sprite)
-							drawables.add(((Sprite)key.getObject()).getDrawable());
+		for(int i = 0; i < parts.length; i += 2) {
+			Animation animation = animations.get(parts[i]);
+			Timeline timeline = animation.getTimelines().get(parts[i + 1]);
+
+			for(int j = 0; j < timeline.getKeys().size; j++) {
+				AnimatedPart object = timeline.getKeys().get(j).getObject();
+				if(!(object instanceof Sprite))
+					continue;
+
+				SpriteDrawable drawable = ((Sprite)object).getDrawable();
+				drawables.add(animation.hasOverrides()
+						? animation.getOverrides().getDrawable(parts[i + 1], drawable)
+						: drawable);
+			}
+		}
 
 		return drawables;
 	}
 
 	/**
-	 * Set the drawable of the name specified sprite in all animations for all timelines
+	 * Set the drawable of the name specified sprite in all animations for all timelines. The
+	 * keyframes are not modified, the drawable is an override of this entity only.
 	 *
 	 * @param name name of the sprite
-	 * @param drawable drawable to set
+	 * @param drawable drawable to set, null to remove the override
 	 */
 	public void setSpriteDrawable(String name, SpriteDrawable drawable) {
-		for(Animation animation : animations)
-			for(Timeline timeline : animation.getTimelines())
-				if(timeline.getName().equals(name))
-					for(TimelineKey key : timeline.getKeys())
-						if(key.getObject() instanceof Sprite)
-							((Sprite)key.getObject()).setDrawable(drawable);
+		int[] parts = getData().getParts(name);
+
+		for(int i = 0; i < parts.length; i += 2)
+			animations.get(parts[i]).getOverrides().setDrawable(parts[i + 1], drawable);
 	}
 
 	/**
-	 * Sets the name specified sprite in all animations as enabled or not
+	 * Sets the name specified sprite in all animations as enabled or not, for this entity only
 	 *
 	 * @param name name of the sprite
 	 * @param enabled true for enabled, otherwise false
 	 */
 	public void setSpriteEnabled(String name, boolean enabled) {
-		for(Animation animation : animations)
-			for(Timeline timeline : animation.getTimelines())
-				if(timeline.getName().equals(name))
-					for(TimelineKey key : timeline.getKeys())
-						if(key.getObject() instanceof Sprite)
-							((Sprite)key.getObject()).setEnabled(enabled);
+		int[] parts = getData().getParts(name);
+
+		for(int i = 0; i < parts.length; i += 2)
+			animations.get(parts[i]).getOverrides().setEnabled(parts[i + 1], enabled);
 	}
 
+	/**
+	 * Tints the name specified sprite in all animations, for this entity only
+	 *
+	 * @param name name of the sprite
+	 * @param color the tint, null for none
+	 */
 	public void tintSprite(String name, Color color) {
-		for(Animation animation : animations)
-			for(Timeline timeline : animation.getTimelines())
-				if(timeline.getName().equals(name))
-					for(TimelineKey key : timeline.getKeys())
-						if(key.getObject() instanceof Sprite) {
-							Sprite sprite = (Sprite)key.getObject();
+		int[] parts = getData().getParts(name);
 
-							if(!(sprite.getDrawable() instanceof TintedSpriteDrawable))
-								sprite.setDrawable(new TintedSpriteDrawable(
-										((Sprite)key.getObject()).getDrawable(), color));
-							else
-								((TintedSpriteDrawable)sprite.getDrawable()).setColor(color);
-						}
+		for(int i = 0; i < parts.length; i += 2)
+			animations.get(parts[i]).getOverrides().setTint(parts[i + 1], color);
 	}
 
+	/**
+	 * Replaces the given drawable by another in every sprite of every animation, for this entity
+	 * only. Used to swap assets, such as equipment, without knowing which sprites use them.
+	 *
+	 * @param drawable drawable to replace, usually an asset of the project
+	 * @param replacement drawable to draw instead, null to remove the remap
+	 */
+	public void remapDrawable(SpriteDrawable drawable, SpriteDrawable replacement) {
+		for(int i = 0; i < animations.size; i++)
+			animations.get(i).getOverrides().remapDrawable(drawable, replacement);
+	}
+
+	/**
+	 * Sets the transformation applied to the name specified part in all animations, or removes it
+	 * if null
+	 *
+	 * @param timelineName name of the part
+	 * @param transformation transformation to apply, null to remove it
+	 */
 	public void setTransformation(String timelineName, Consumer<AnimatedPart> transformation) {
-		for(Animation animation : animations)
-			if(transformation == null)
-				animation.getTransformations().remove(timelineName);
-			else
-				animation.getTransformations().put(timelineName, transformation);
+		int[] parts = getData().getParts(timelineName);
+
+		for(int i = 0; i < parts.length; i += 2)
+			animations.get(parts[i]).setTransformation(parts[i + 1], transformation);
+	}
+
+	/**
+	 * Sets the transformation applied to the specified part of the specified animation, or
+	 * removes it if null. Ids can be resolved once with {@link #getAnimationId(String)} and
+	 * {@link Animation#getPartId(String)}, or {@link EntityData#getParts(String)}.
+	 *
+	 * @param animationId index of the animation
+	 * @param partId id of the part in the animation
+	 * @param transformation transformation to apply, null to remove it
+	 */
+	public void setTransformation(int animationId, int partId,
+	                              Consumer<AnimatedPart> transformation) {
+		animations.get(animationId).setTransformation(partId, transformation);
 	}
 
 	public void clearTransformations() {
-		for(Animation animation : animations)
-			animation.getTransformations().clear();
+		for(int i = 0; i < animations.size; i++)
+			animations.get(i).clearTransformations();
+	}
+
+	/**
+	 * Restores every animation of this entity to the state it was created with
+	 *
+	 * @see Animation#restore()
+	 */
+	@Override
+	public void reset() {
+		for(int i = 0; i < animations.size; i++)
+			animations.get(i).restore();
 	}
 
 	public void setAlpha(float alpha) {
@@ -121,7 +195,7 @@ public class Entity {
 	}
 
 	public int getAnimationId(String name) {
-		return animations.indexOf(getAnimation(name), true);
+		return getData().getAnimationId(name);
 	}
 
 	public int getAnimationId(Animation animation) {
@@ -135,17 +209,45 @@ public class Entity {
 	 * @return animation for the specified name
 	 */
 	public Animation getAnimation(String name) {
-		for(Animation animation : animations)
-			if(animation.getName().equals(name))
-				return animation;
-
-		return null;
+		int id = getAnimationId(name);
+		return id != -1 ? animations.get(id) : null;
 	}
 
 	public String getName() {
 		return name;
 	}
 
+	/**
+	 * Returns the data of the animations of this entity, with its indexes by name. It is built
+	 * from the animations the first time it is needed and kept until {@link #invalidateData()}
+	 * is called.
+	 *
+	 * @return data of this entity
+	 */
+	public EntityData getData() {
+		if(data != null)
+			return data;
+
+		Array<AnimationData> animationData = new Array<>(animations.size);
+		for(int i = 0; i < animations.size; i++)
+			animationData.add(animations.get(i).getData());
+
+		data = new EntityData(name, animationData);
+		return data;
+	}
+
+	/**
+	 * Discards the data of this entity, so that it is built again from its animations when
+	 * needed. Must be called after adding, removing, replacing or moving animations of
+	 * {@link #getAnimations()}, otherwise lookups by name use the previous animations.
+	 */
+	public void invalidateData() {
+		data = null;
+	}
+
+	/**
+	 * @return animations of this entity, call {@link #invalidateData()} after modifying it
+	 */
 	public Array<Animation> getAnimations() {
 		return animations;
 	}
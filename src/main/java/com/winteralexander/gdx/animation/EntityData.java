@@ -0,0 +1,96 @@
+package com.winteralexander.gdx.animation;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * Shared, read-only prototype of an {@link Entity}. Holds the {@link AnimationData} of every
+ * animation of the entity, from which lightweight {@link Entity} instances are created, along
+ * with indexes of its animations and parts by name.
+ * <p>
+ * Created on 2026-10-18.
+ *
+ * @author Alexander Winter
+ */
+public class EntityData {
+	private static final int[] NO_PARTS = new int[0];
+
+	private final String name;
+	private final Array<AnimationData> animations;
+
+	private final ObjectIntMap<String> animationIds;
+	// animation index and timeline id of every part, by name
+	private final ObjectMap<String, int[]> parts;
+
+	public EntityData(String name, Array<AnimationData> animations) {
+		this.name = name;
+		this.animations = animations;
+		this.animationIds = new ObjectIntMap<>(animations.size);
+
+		ObjectMap<String, IntArray> parts = new ObjectMap<>();
+
+		for(int i = 0; i < animations.size; i++) {
+			AnimationData animation = animations.get(i);
+
+			if(!animationIds.containsKey(animation.getName()))
+				animationIds.put(animation.getName(), i);
+
+			Array<Timeline> timelines = animation.getTimelines();
+			for(int j = 0; j < timelines.size; j++) {
+				IntArray refs = parts.get(timelines.get(j).getName());
+
+				if(refs == null) {
+					refs = new IntArray();
+					parts.put(timelines.get(j).getName(), refs);
+				}
+				refs.add(i, timelines.get(j).getId());
+			}
+		}
+
+		this.parts = new ObjectMap<>(parts.size);
+		for(ObjectMap.Entry<String, IntArray> entry : parts)
+			this.parts.put(entry.key, entry.value.toArray());
+	}
+
+	/**
+	 * Returns the AnimationData for the specified name
+	 *
+	 * @param name name of the animation
+	 * @return data of the animation for the specified name, null if not found
+	 */
+	public AnimationData getAnimation(String name) {
+		int id = getAnimationId(name);
+		return id != -1 ? animations.get(id) : null;
+	}
+
+	/**
+	 * Returns the index of the first animation with the specified name
+	 *
+	 * @param name name of the animation
+	 * @return index of the animation, -1 if not found
+	 */
+	public int getAnimationId(String name) {
+		return animationIds.get(name, -1);
+	}
+
+	/**
+	 * Returns the parts with the specified name in all animations, as pairs of animation index
+	 * and timeline id: <code>{animation0, timeline0, animation1, timeline1, ...}</code>
+	 *
+	 * @param name name of the timelines of the parts
+	 * @return animation index and timeline id of every part, must not be modified
+	 */
+	public int[] getParts(String name) {
+		return parts.get(name, NO_PARTS);
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public Array<AnimationData> getAnimations() {
+		return animations;
+	}
+}
@@ -0,0 +1,113 @@
+package com.winteralexander.gdx.animation;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * Pools of {@link Entity} instances keyed by entity name, so that entities spawned and
+ * despawned often are recycled instead of allocated. Freed entities are reset to the state they
+ * were created with (see {@link Entity#reset()}). Like libGDX {@link Pool}s, this class isn't
+ * thread-safe.
+ * <p>
+ * Created on 2026-10-18.
+ *
+ * @author Alexander Winter
+ */
+public class EntityPool {
+	private final ObjectMap<String, Pool<Entity>> pools = new ObjectMap<>();
+	private final int initialCapacity, max;
+
+	public EntityPool() {
+		this(16, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * @param initialCapacity initial capacity of the pool of each entity
+	 * @param max maximum amount of free instances kept for each entity
+	 */
+	public EntityPool(int initialCapacity, int max) {
+		this.initialCapacity = initialCapacity;
+		this.max = max;
+	}
+
+	/**
+	 * Creates a pool for each of the specified entities
+	 *
+	 * @param entities data of the entities
+	 */
+	public EntityPool(Array<EntityData> entities) {
+		this();
+		addAll(entities);
+	}
+
+	/**
+	 * Adds a pool for the specified entity, replacing any pool for an entity of the same name
+	 *
+	 * @param data data of the entity
+	 */
+	public void add(EntityData data) {
+		pools.put(data.getName(), new Pool<Entity>(initialCapacity, max) {
+			@Override
+			protected Entity newObject() {
+				return new Entity(data);
+			}
+		});
+	}
+
+	public void addAll(Array<EntityData> entities) {
+		for(int i = 0; i < entities.size; i++)
+			add(entities.get(i));
+	}
+
+	/**
+	 * Returns a free instance of the specified entity, or a new one if there are none
+	 *
+	 * @param name name of the entity
+	 * @return an instance of the entity
+	 * @throws EntityNotFoundException if there is no pool for the entity
+	 */
+	public Entity obtain(String name) {
+		return getPool(name).obtain();
+	}
+
+	/**
+	 * Resets the specified entity and puts it back in the pool of its name
+	 *
+	 * @param entity entity to free, obtained from this pool
+	 * @throws EntityNotFoundException if there is no pool for the entity
+	 */
+	public void free(Entity entity) {
+		getPool(entity.getName()).free(entity);
+	}
+
+	/**
+	 * Creates instances of the specified entity ahead of time
+	 *
+	 * @param name name of the entity
+	 * @param count amount of instances to add to its pool
+	 * @throws EntityNotFoundException if there is no pool for the entity
+	 */
+	public void fill(String name, int count) {
+		getPool(name).fill(count);
+	}
+
+	/**
+	 * @param name name of the entity
+	 * @return pool of the entity
+	 * @throws EntityNotFoundException if there is no pool for the entity
+	 */
+	public Pool<Entity> getPool(String name) {
+		Pool<Entity> pool = pools.get(name);
+
+		if(pool == null)
+			throw new EntityNotFoundException(name);
+
+		return pool;
+	}
+
+	public void clear() {
+		for(Pool<Entity> pool : pools.values())
+			pool.clear();
+	}
+}
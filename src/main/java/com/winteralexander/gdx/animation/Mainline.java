@@ -11,6 +11,12 @@ import com.badlogic.gdx.utils.Array;
  * @author Alexander Winter
  */
 public class Mainline {
+	/**
+	 * Maximum number of keys {@link #getKeyIndexBeforeTime(int, boolean, int)} steps through from
+	 * its cursor before falling back to a binary search
+	 */
+	private static final int MAX_CURSOR_STEPS = 4;
+
 	private final Array<MainlineKey> keys;
 
 	public Mainline(int keys) {
@@ -20,8 +26,8 @@ public class Mainline {
 	public Mainline(Mainline other) {
 		this.keys = new Array<>(other.keys.size);
 
-		for(MainlineKey key : other.keys)
-			keys.add(new MainlineKey(key));
+		for(int i = 0; i < other.keys.size; i++)
+			keys.add(new MainlineKey(other.keys.get(i)));
 	}
 
 	/**
@@ -32,24 +38,81 @@ public class Mainline {
 	 * @return last previous key before specified time, when not found first one is returned
 	 */
 	public MainlineKey getKeyBeforeTime(int time, boolean wrapAround) {
-		MainlineKey found = wrapAround ? keys.get(keys.size - 1) : keys.get(0);
+		return keys.get(getKeyIndexBeforeTime(time, wrapAround));
+	}
 
-		for(MainlineKey key : keys) {
-			if(key.time > time)
-				break;
-			found = key;
+	/**
+	 * Returns the index of the last previous MainlineKey before specified time using a binary
+	 * search. Keys are expected to be sorted by time.
+	 *
+	 * @param time the time a key has to be before
+	 * @param wrapAround true if should wrap around the timeline, otherwise false
+	 * @return index of the last previous key before specified time, when not found the index of
+	 * the last key is returned if wrapping around, otherwise the index of the first one
+	 */
+	public int getKeyIndexBeforeTime(int time, boolean wrapAround) {
+		int low = 0, high = keys.size - 1;
+
+		while(low <= high) {
+			int mid = (low + high) >>> 1;
+
+			if(keys.get(mid).time > time)
+				high = mid - 1;
+			else
+				low = mid + 1;
 		}
 
-		return found;
+		if(high < 0)
+			return wrapAround ? keys.size - 1 : 0;
+
+		return high;
+	}
+
+	/**
+	 * Returns the index of the last previous MainlineKey before specified time, starting the
+	 * search from the index previously returned. When the time moved forward by a few keys, as
+	 * it does during normal playback, the keys are stepped through from the cursor, otherwise a
+	 * binary search is done.
+	 *
+	 * @param time the time a key has to be before
+	 * @param wrapAround true if should wrap around the timeline, otherwise false
+	 * @param cursor index previously returned by this method
+	 * @return same as {@link #getKeyIndexBeforeTime(int, boolean)}
+	 */
+	public int getKeyIndexBeforeTime(int time, boolean wrapAround, int cursor) {
+		if(cursor < 0 || cursor >= keys.size || keys.get(cursor).time > time)
+			return getKeyIndexBeforeTime(time, wrapAround);
+
+		for(int i = 0; i < MAX_CURSOR_STEPS; i++) {
+			if(cursor + 1 == keys.size || keys.get(cursor + 1).time > time)
+				return cursor;
+			cursor++;
+		}
+
+		return getKeyIndexBeforeTime(time, wrapAround);
 	}
 
 	public MainlineKey next(MainlineKey previous, boolean wrapAround) {
-		int index = keys.indexOf(previous, true);
+		int index = getKeyIndexBeforeTime(previous.time, false);
 
+		if(keys.get(index) != previous)
+			index = keys.indexOf(previous, true);
+
+		return keys.get(next(index, wrapAround));
+	}
+
+	/**
+	 * Returns the index of the key following the specified one
+	 *
+	 * @param index index of the previous key
+	 * @param wrapAround true if should wrap around the timeline, otherwise false
+	 * @return index of the next key
+	 */
+	public int next(int index, boolean wrapAround) {
 		if(index + 1 == keys.size)
-			return wrapAround ? keys.get(0) : keys.get(keys.size - 1);
+			return wrapAround ? 0 : keys.size - 1;
 
-		return keys.get(index + 1);
+		return index + 1;
 	}
 
 	public Array<MainlineKey> getKeys() {
@@ -28,7 +28,7 @@ public class MainlineKey {
 
 		IdentityMap<ObjectRef, ObjectRef> graphIsomorphism = new IdentityMap<>();
 
-		for(ObjectRef ref : other.objectRefs)
-			objectRefs.add(ref.clone(graphIsomorphism));
+		for(int i = 0; i < other.objectRefs.size; i++)
+			objectRefs.add(other.objectRefs.get(i).clone(graphIsomorphism));
 	}
 }
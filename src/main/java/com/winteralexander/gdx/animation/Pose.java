@@ -0,0 +1,286 @@
+package com.winteralexander.gdx.animation;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.winteralexander.gdx.animation.drawable.SpriteDrawable;
+
+import static java.lang.Math.signum;
+
+/**
+ * Tweened state of every part of an {@link Animation}, stored as primitive arrays indexed by
+ * timeline id. Parts that aren't sprites leave the sprite specific arrays ({@link #drawables},
+ * {@link #zIndex}, {@link #enabled}) untouched.
+ * <p>
+ * Created on 2026-10-18.
+ *
+ * @author Alexander Winter
+ */
+public class Pose {
+	public final float[] x, y, scaleX, scaleY, angle, alpha;
+	public final int[] zIndex;
+	public final boolean[] visible, enabled;
+	public final SpriteDrawable[] drawables;
+
+	/**
+	 * Timeline ids of the sprites of this pose, in the order they have to be drawn
+	 */
+	public final int[] drawOrder;
+	public int drawOrderSize = 0;
+
+	/**
+	 * Whether each part can be the parent of other parts, which makes its transform cached
+	 */
+	public final boolean[] bone;
+
+	/**
+	 * Cached transform of the bones and of the root, composed of the matrix mapping local
+	 * coordinates of children to global ones (excluding translation) and the product of the
+	 * signs of the scale, which flips the angle of children
+	 */
+	private final float[] m00, m01, m10, m11, flip;
+	private float rootX, rootY, rootScaleX, rootScaleY, rootAngle, rootAlpha;
+	private float rootM00, rootM01, rootM10, rootM11, rootFlip;
+
+	/**
+	 * Whether transforms are cached using {@link MathUtils#sinDeg(float)} and
+	 * {@link MathUtils#cosDeg(float)} lookup tables instead of {@link Math#sin(double)} and
+	 * {@link Math#cos(double)}
+	 */
+	public boolean fastTrig = false;
+
+	public Pose(int size) {
+		x = new float[size];
+		y = new float[size];
+		scaleX = new float[size];
+		scaleY = new float[size];
+		angle = new float[size];
+		alpha = new float[size];
+		zIndex = new int[size];
+		visible = new boolean[size];
+		enabled = new boolean[size];
+		drawables = new SpriteDrawable[size];
+		drawOrder = new int[size];
+		bone = new boolean[size];
+		m00 = new float[size];
+		m01 = new float[size];
+		m10 = new float[size];
+		m11 = new float[size];
+		flip = new float[size];
+
+		for(int i = 0; i < size; i++) {
+			scaleX[i] = 1f;
+			scaleY[i] = 1f;
+			alpha[i] = 1f;
+			enabled[i] = true;
+		}
+	}
+
+	public int size() {
+		return x.length;
+	}
+
+	/**
+	 * Copies the state of every part of the given pose into this one
+	 *
+	 * @param other pose of the same size to copy
+	 */
+	public void set(Pose other) {
+		int size = size();
+		System.arraycopy(other.x, 0, x, 0, size);
+		System.arraycopy(other.y, 0, y, 0, size);
+		System.arraycopy(other.scaleX, 0, scaleX, 0, size);
+		System.arraycopy(other.scaleY, 0, scaleY, 0, size);
+		System.arraycopy(other.angle, 0, angle, 0, size);
+		System.arraycopy(other.alpha, 0, alpha, 0, size);
+		System.arraycopy(other.zIndex, 0, zIndex, 0, size);
+		System.arraycopy(other.visible, 0, visible, 0, size);
+		System.arraycopy(other.enabled, 0, enabled, 0, size);
+		System.arraycopy(other.drawables, 0, drawables, 0, size);
+		System.arraycopy(other.drawOrder, 0, drawOrder, 0, size);
+		System.arraycopy(other.bone, 0, bone, 0, size);
+		drawOrderSize = other.drawOrderSize;
+		fastTrig = other.fastTrig;
+	}
+
+	/**
+	 * Sets the values of the specified part of this pose to the values of the given object
+	 *
+	 * @param index timeline id of the part
+	 * @param object the object
+	 */
+	public void set(int index, AnimatedPart object) {
+		setTransform(index, object);
+
+		if(object instanceof Sprite) {
+			Sprite sprite = (Sprite)object;
+			drawables[index] = sprite.getDrawable();
+			zIndex[index] = sprite.getZIndex();
+			enabled[index] = sprite.isEnabled();
+		}
+	}
+
+	/**
+	 * Copies the position, scale, angle and alpha of the given object into the specified part of
+	 * this pose, leaving its drawable, z-index and enabled state untouched
+	 *
+	 * @param index timeline id of the part
+	 * @param object object to copy
+	 */
+	public void setTransform(int index, AnimatedPart object) {
+		x[index] = object.getPosition().x;
+		y[index] = object.getPosition().y;
+		scaleX[index] = object.getScale().x;
+		scaleY[index] = object.getScale().y;
+		angle[index] = object.getAngle();
+		alpha[index] = object.getAlpha();
+	}
+
+	/**
+	 * Copies the values of the specified part of this pose into the given object
+	 *
+	 * @param index timeline id of the part
+	 * @param object object to write to
+	 */
+	public void get(int index, AnimatedPart object) {
+		object.getPosition().set(x[index], y[index]);
+		object.getScale().set(scaleX[index], scaleY[index]);
+		object.setAngle(angle[index]);
+		object.setAlpha(alpha[index]);
+
+		if(object instanceof Sprite) {
+			Sprite sprite = (Sprite)object;
+			sprite.setDrawable(drawables[index]);
+			sprite.setZIndex(zIndex[index]);
+			sprite.setVisible(visible[index]);
+			sprite.setEnabled(enabled[index]);
+		}
+	}
+
+	/**
+	 * Maps the specified part from the coordinate system of another part of this pose to a
+	 * global one. The transform of the parent must have been cached with
+	 * {@link #cacheTransform(int)} since it was last modified.
+	 *
+	 * @param index timeline id of the part to map
+	 * @param parent timeline id of the parent part
+	 * @param inheritParentAlpha true if the alpha of the parent should be applied to the part
+	 */
+	public void unmap(int index, int parent, boolean inheritParentAlpha) {
+		unmap(index, x[parent], y[parent], scaleX[parent], scaleY[parent], angle[parent],
+				alpha[parent], m00[parent], m01[parent], m10[parent], m11[parent], flip[parent],
+				inheritParentAlpha);
+	}
+
+	/**
+	 * Maps the specified part from the coordinate system of the root set with
+	 * {@link #setRoot(AnimatedPart)} to a global one.
+	 *
+	 * @param index timeline id of the part to map
+	 * @param inheritParentAlpha true if the alpha of the root should be applied to the part
+	 */
+	public void unmapFromRoot(int index, boolean inheritParentAlpha) {
+		unmap(index, rootX, rootY, rootScaleX, rootScaleY, rootAngle, rootAlpha,
+				rootM00, rootM01, rootM10, rootM11, rootFlip, inheritParentAlpha);
+	}
+
+	/**
+	 * Maps the specified part from the coordinate system of the given part to a global one.
+	 *
+	 * @param index timeline id of the part to map
+	 * @param parent the parent part
+	 * @param inheritParentAlpha true if the alpha of the parent should be applied to the part
+	 */
+	public void unmap(int index, AnimatedPart parent, boolean inheritParentAlpha) {
+		float scaleX = parent.getScale().x, scaleY = parent.getScale().y;
+		float cos = cos(parent.getAngle()), sin = sin(parent.getAngle());
+
+		unmap(index, parent.getPosition().x, parent.getPosition().y, scaleX, scaleY,
+				parent.getAngle(), parent.getAlpha(),
+				cos * scaleX, -sin * scaleY, sin * scaleX, cos * scaleY,
+				signum(scaleX) * signum(scaleY), inheritParentAlpha);
+	}
+
+	private void unmap(int index,
+	                   float parentX, float parentY,
+	                   float parentScaleX, float parentScaleY,
+	                   float parentAngle, float parentAlpha,
+	                   float m00, float m01, float m10, float m11, float flip,
+	                   boolean inheritParentAlpha) {
+		angle[index] = angle[index] * flip + parentAngle;
+		if(inheritParentAlpha)
+			alpha[index] *= parentAlpha;
+		scaleX[index] *= parentScaleX;
+		scaleY[index] *= parentScaleY;
+
+		float localX = x[index];
+		float localY = y[index];
+		x[index] = m00 * localX + m01 * localY + parentX;
+		y[index] = m10 * localX + m11 * localY + parentY;
+	}
+
+	/**
+	 * Caches the transform of the specified part so it can be reused by all of its children
+	 * when they are unmapped
+	 *
+	 * @param index timeline id of the part
+	 */
+	public void cacheTransform(int index) {
+		float cos = cos(angle[index]), sin = sin(angle[index]);
+
+		m00[index] = cos * scaleX[index];
+		m01[index] = -sin * scaleY[index];
+		m10[index] = sin * scaleX[index];
+		m11[index] = cos * scaleY[index];
+		flip[index] = signum(scaleX[index]) * signum(scaleY[index]);
+	}
+
+	/**
+	 * Sets and caches the transform of the root from which parts without parent are unmapped
+	 *
+	 * @param root root of the animation
+	 */
+	public void setRoot(AnimatedPart root) {
+		rootX = root.getPosition().x;
+		rootY = root.getPosition().y;
+		rootScaleX = root.getScale().x;
+		rootScaleY = root.getScale().y;
+		rootAngle = root.getAngle();
+		rootAlpha = root.getAlpha();
+
+		float cos = cos(rootAngle), sin = sin(rootAngle);
+		rootM00 = cos * rootScaleX;
+		rootM01 = -sin * rootScaleY;
+		rootM10 = sin * rootScaleX;
+		rootM11 = cos * rootScaleY;
+		rootFlip = signum(rootScaleX) * signum(rootScaleY);
+	}
+
+	private float cos(float degrees) {
+		if(fastTrig)
+			return MathUtils.cosDeg(degrees);
+		return (float)Math.cos(degrees * MathUtils.degreesToRadians);
+	}
+
+	private float sin(float degrees) {
+		if(fastTrig)
+			return MathUtils.sinDeg(degrees);
+		return (float)Math.sin(degrees * MathUtils.degreesToRadians);
+	}
+
+	/**
+	 * Sorts the {@link #drawOrder} by z-index. The sort is stable, sprites of equal z-index keep
+	 * their previous order.
+	 */
+	public void sortDrawOrder() {
+		for(int i = 1; i < drawOrderSize; i++) {
+			int index = drawOrder[i];
+			int z = zIndex[index];
+			int j = i - 1;
+
+			while(j >= 0 && zIndex[drawOrder[j]] > z) {
+				drawOrder[j + 1] = drawOrder[j];
+				j--;
+			}
+			drawOrder[j + 1] = index;
+		}
+	}
+}
@@ -0,0 +1,277 @@
+package com.winteralexander.gdx.animation;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.winteralexander.gdx.animation.drawable.SpriteDrawable;
+
+import java.util.Arrays;
+
+import static com.winteralexander.gdx.animation.drawable.TextureSpriteDrawable.QUAD_SIZE;
+
+/**
+ * Collects the sprites of many animations to draw them in a single pass, sorted to minimize
+ * texture switches. Every sprite is given a sort key made of its layer, its position in the draw
+ * order of its animation and its texture. Sprites are drawn by layer, then by position, then
+ * grouped by texture, which keeps the draw order of each animation while drawing the sprites of
+ * the same position in all animations of a layer together. Animations overlapping each other
+ * must be in different layers to be drawn one on top of the other, which is what
+ * {@link #add(Animation)} does. Animations known not to overlap can share a layer to batch more
+ * of their sprites together.
+ * <pre>
+ * queue.add(animation); // for every animation, drawn in the order they are added
+ * queue.flush(batch); // sorts, draws and clears the queue
+ * </pre>
+ * <p>
+ * Created on 2026-10-18.
+ *
+ * @author Alexander Winter
+ */
+public class RenderQueue {
+	private static final int MIN_LAYER = Short.MIN_VALUE, MAX_LAYER = Short.MAX_VALUE;
+	private static final int KEY_BITS = 48, RADIX_BITS = 8, RADIX = 1 << RADIX_BITS;
+
+	private final Color color = new Color(Color.WHITE);
+
+	private int size = 0;
+	private int nextLayer = 0; // layer above every layer used since the last clear
+	private long[] keys = new long[64];
+	private float[] vertices = new float[64 * QUAD_SIZE]; // QUAD_SIZE floats per item
+	private Texture[] textures = new Texture[64]; // null for drawables drawn by themselves
+	private SpriteDrawable[] drawables = new SpriteDrawable[64];
+	private Sprite[] sprites = new Sprite[64];
+	private float[] colors = new float[64];
+
+	private final ObjectIntMap<Texture> textureIds = new ObjectIntMap<>();
+	private Texture lastTexture;
+	private int lastTextureId;
+
+	// sort buffers
+	private int[] order = new int[64], sorted = new int[64];
+	private final int[] counts = new int[RADIX];
+	private float[] runVertices = new float[64 * QUAD_SIZE];
+
+	/**
+	 * Adds the sprites of the front pose of the specified animation to a new layer above all the
+	 * layers used since this queue was cleared, so that it is drawn on top of them
+	 *
+	 * @param animation animation to draw
+	 */
+	public void add(Animation animation) {
+		animation.submit(this, nextLayer);
+	}
+
+	/**
+	 * Adds the sprites of the front pose of the specified animation to the given layer. The
+	 * sprites of the animations in the same layer are interleaved, only animations that don't
+	 * overlap should share a layer.
+	 *
+	 * @param animation animation to draw
+	 * @param layer layer of the animation, lower layers are drawn first
+	 */
+	public void add(Animation animation, int layer) {
+		animation.submit(this, layer);
+	}
+
+	/**
+	 * Adds a quad to this queue and returns the index in {@link #getVertices()} at which its
+	 * {@link com.winteralexander.gdx.animation.drawable.TextureSpriteDrawable#QUAD_SIZE}
+	 * vertices must be written
+	 *
+	 * @param layer layer of the quad
+	 * @param depth position of the quad in the draw order of its animation
+	 * @param texture texture of the quad
+	 * @return offset of the vertices of the quad
+	 */
+	public int addQuad(int layer, int depth, Texture texture) {
+		int index = add(layer, depth, getTextureId(texture));
+		textures[index] = texture;
+		return index * QUAD_SIZE;
+	}
+
+	/**
+	 * Adds a sprite drawn by its drawable, for drawables that can't be flattened into quads
+	 *
+	 * @param layer layer of the sprite
+	 * @param depth position of the sprite in the draw order of its animation
+	 * @param drawable drawable of the sprite
+	 * @param sprite sprite to draw, must not be modified until the queue is flushed
+	 * @param color packed color of the batch when drawing the sprite
+	 */
+	public void addDrawable(int layer, int depth, SpriteDrawable drawable, Sprite sprite,
+	                        float color) {
+		int index = add(layer, depth, 0);
+		drawables[index] = drawable;
+		sprites[index] = sprite;
+		colors[index] = color;
+	}
+
+	private int add(int layer, int depth, int textureId) {
+		if(size == keys.length)
+			grow();
+
+		layer = Math.max(MIN_LAYER, Math.min(layer, MAX_LAYER));
+		nextLayer = Math.max(nextLayer, Math.min(layer + 1, MAX_LAYER));
+
+		layer -= MIN_LAYER;
+		keys[size] = (long)layer << 32 | (long)(depth & 0xFFFF) << 16 | textureId & 0xFFFF;
+		textures[size] = null;
+		drawables[size] = null;
+		sprites[size] = null;
+		return size++;
+	}
+
+	private int getTextureId(Texture texture) {
+		if(texture == lastTexture)
+			return lastTextureId;
+
+		int id = textureIds.get(texture, -1);
+		if(id == -1) {
+			id = textureIds.size + 1; // 0 is for drawables
+			textureIds.put(texture, id);
+		}
+
+		lastTexture = texture;
+		lastTextureId = id;
+		return id;
+	}
+
+	private void grow() {
+		int capacity = keys.length * 2;
+		keys = Arrays.copyOf(keys, capacity);
+		vertices = Arrays.copyOf(vertices, capacity * QUAD_SIZE);
+		textures = Arrays.copyOf(textures, capacity);
+		drawables = Arrays.copyOf(drawables, capacity);
+		sprites = Arrays.copyOf(sprites, capacity);
+		colors = Arrays.copyOf(colors, capacity);
+		order = new int[capacity];
+		sorted = new int[capacity];
+	}
+
+	/**
+	 * Sorts the content of this queue, draws it into the given batch then clears it
+	 *
+	 * @param batch batch to draw into
+	 */
+	public void flush(Batch batch) {
+		sort();
+
+		float prevColor = batch.getPackedColor();
+		Texture texture = null;
+		int count = 0;
+
+		for(int i = 0; i < size; i++) {
+			int index = order[i];
+
+			if(textures[index] != null) {
+				if(textures[index] != texture && count > 0) {
+					batch.draw(texture, runVertices, 0, count);
+					count = 0;
+				}
+				texture = textures[index];
+
+				if(count + QUAD_SIZE > runVertices.length)
+					runVertices = Arrays.copyOf(runVertices, runVertices.length * 2);
+
+				System.arraycopy(vertices, index * QUAD_SIZE, runVertices, count, QUAD_SIZE);
+				count += QUAD_SIZE;
+			} else {
+				if(count > 0) {
+					batch.draw(texture, runVertices, 0, count);
+					count = 0;
+				}
+
+				batch.setPackedColor(colors[index]);
+				drawables[index].draw(sprites[index], batch);
+				batch.setPackedColor(prevColor);
+			}
+		}
+
+		if(count > 0)
+			batch.draw(texture, runVertices, 0, count);
+
+		clear();
+	}
+
+	/**
+	 * Sorts the items of this queue by key into {@link #order} with a stable LSD radix sort,
+	 * skipping the digits that are the same for all items
+	 */
+	private void sort() {
+		for(int i = 0; i < size; i++)
+			order[i] = i;
+
+		if(size < 2)
+			return;
+
+		for(int shift = 0; shift < KEY_BITS; shift += RADIX_BITS) {
+			Arrays.fill(counts, 0);
+			for(int i = 0; i < size; i++)
+				counts[(int)(keys[i] >>> shift) & (RADIX - 1)]++;
+
+			if(counts[(int)(keys[0] >>> shift) & (RADIX - 1)] == size)
+				continue;
+
+			int total = 0;
+			for(int i = 0; i < RADIX; i++) {
+				int count = counts[i];
+				counts[i] = total;
+				total += count;
+			}
+
+			for(int i = 0; i < size; i++) {
+				int index = order[i];
+				sorted[counts[(int)(keys[index] >>> shift) & (RADIX - 1)]++] = index;
+			}
+
+			int[] tmp = order;
+			order = sorted;
+			sorted = tmp;
+		}
+	}
+
+	/**
+	 * Removes everything from this queue without drawing it
+	 */
+	public void clear() {
+		Arrays.fill(drawables, 0, size, null);
+		Arrays.fill(sprites, 0, size, null);
+		Arrays.fill(textures, 0, size, null);
+		size = 0;
+		nextLayer = 0;
+		textureIds.clear();
+		lastTexture = null;
+	}
+
+	/**
+	 * @return array the vertices of the quads are written to, see {@link #addQuad}
+	 */
+	public float[] getVertices() {
+		return vertices;
+	}
+
+	/**
+	 * @return color the sprites added to this queue are tinted with
+	 */
+	public Color getColor() {
+		return color;
+	}
+
+	/**
+	 * Sets the color the sprites added to this queue are tinted with, in place of the color of
+	 * the batch used by {@link Animation#draw(Batch)}
+	 *
+	 * @param color the tint
+	 */
+	public void setColor(Color color) {
+		this.color.set(color);
+	}
+
+	/**
+	 * @return amount of quads and drawables in this queue
+	 */
+	public int size() {
+		return size;
+	}
+}
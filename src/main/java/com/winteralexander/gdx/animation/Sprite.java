@@ -39,6 +39,11 @@ public class Sprite extends AnimatedPart {
 		this.zIndex = zIndex;
 	}
 
+	@Override
+	public Sprite clone() {
+		return new Sprite(this);
+	}
+
 	public void draw(Batch batch) {
 		if(drawable != null && visible && enabled)
 			drawable.draw(this, batch);
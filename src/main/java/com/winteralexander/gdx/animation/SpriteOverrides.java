@@ -0,0 +1,177 @@
+package com.winteralexander.gdx.animation;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.utils.IdentityMap;
+import com.winteralexander.gdx.animation.drawable.SpriteDrawable;
+
+/**
+ * Per-instance customization of the sprites of an {@link Animation}, similar to the character
+ * maps of Spriter. Sprites can have their drawable replaced, be tinted or be enabled and
+ * disabled by timeline id, and drawables can be remapped to others in every sprite. Overrides
+ * are applied when the animation is evaluated and drawn, the keyframes shared with other
+ * animations are never modified.
+ * <p>
+ * Created on 2026-10-18.
+ *
+ * @author Alexander Winter
+ */
+public class SpriteOverrides {
+	private static final byte UNSET = 0, ENABLED = 1, DISABLED = 2;
+	private static final int R = 0, G = 1, B = 2, A = 3;
+
+	private final SpriteDrawable[] drawables; // by timeline id, null for none
+	private final byte[] enabled; // by timeline id
+	private final float[] tints; // rgba by timeline id
+	private final IdentityMap<SpriteDrawable, SpriteDrawable> remappedDrawables =
+			new IdentityMap<>();
+
+	/**
+	 * Incremented when an override affecting the pose is modified
+	 */
+	private int version = 0;
+
+	/**
+	 * @param size amount of timelines of the animation
+	 */
+	public SpriteOverrides(int size) {
+		drawables = new SpriteDrawable[size];
+		enabled = new byte[size];
+		tints = new float[size * 4];
+		clearTints();
+	}
+
+	/**
+	 * Applies the drawable and enabled overrides to the specified sprite of the given pose
+	 *
+	 * @param pose pose to modify
+	 * @param index timeline id of the sprite
+	 */
+	public void apply(Pose pose, int index) {
+		pose.drawables[index] = getDrawable(index, pose.drawables[index]);
+
+		if(enabled[index] != UNSET)
+			pose.enabled[index] = enabled[index] == ENABLED;
+	}
+
+	/**
+	 * Returns the drawable the specified sprite is drawn with instead of the given one
+	 *
+	 * @param index timeline id of the sprite
+	 * @param drawable drawable of the sprite in its keyframe
+	 * @return the drawable to draw
+	 */
+	public SpriteDrawable getDrawable(int index, SpriteDrawable drawable) {
+		if(drawables[index] != null)
+			return drawables[index];
+
+		if(remappedDrawables.size > 0 && drawable != null)
+			return remappedDrawables.get(drawable, drawable);
+
+		return drawable;
+	}
+
+	/**
+	 * Replaces the drawable of the specified sprite in every keyframe
+	 *
+	 * @param index timeline id of the sprite
+	 * @param drawable drawable to draw instead, null to remove the override
+	 */
+	public void setDrawable(int index, SpriteDrawable drawable) {
+		drawables[index] = drawable;
+		version++;
+	}
+
+	/**
+	 * Replaces the given drawable by another in every sprite, unless the sprite has its own
+	 * drawable override
+	 *
+	 * @param drawable drawable to replace, usually an asset of the project
+	 * @param replacement drawable to draw instead, null to remove the remap
+	 */
+	public void remapDrawable(SpriteDrawable drawable, SpriteDrawable replacement) {
+		if(replacement == null)
+			remappedDrawables.remove(drawable);
+		else
+			remappedDrawables.put(drawable, replacement);
+		version++;
+	}
+
+	/**
+	 * Enables or disables the specified sprite in every keyframe
+	 *
+	 * @param index timeline id of the sprite
+	 * @param enabled true for enabled, otherwise false
+	 */
+	public void setEnabled(int index, boolean enabled) {
+		this.enabled[index] = enabled ? ENABLED : DISABLED;
+		version++;
+	}
+
+	/**
+	 * Removes the enabled override of the specified sprite, its keyframes then decide whether it
+	 * is enabled
+	 *
+	 * @param index timeline id of the sprite
+	 */
+	public void clearEnabled(int index) {
+		enabled[index] = UNSET;
+		version++;
+	}
+
+	/**
+	 * Tints the specified sprite. The color is copied, modifying it afterwards has no effect.
+	 *
+	 * @param index timeline id of the sprite
+	 * @param color the tint, null for none
+	 */
+	public void setTint(int index, Color color) {
+		if(color == null)
+			color = Color.WHITE;
+
+		tints[index * 4 + R] = color.r;
+		tints[index * 4 + G] = color.g;
+		tints[index * 4 + B] = color.b;
+		tints[index * 4 + A] = color.a;
+	}
+
+	public float getRed(int index) {
+		return tints[index * 4 + R];
+	}
+
+	public float getGreen(int index) {
+		return tints[index * 4 + G];
+	}
+
+	public float getBlue(int index) {
+		return tints[index * 4 + B];
+	}
+
+	public float getAlpha(int index) {
+		return tints[index * 4 + A];
+	}
+
+	/**
+	 * Removes every override
+	 */
+	public void clear() {
+		for(int i = 0; i < drawables.length; i++) {
+			drawables[i] = null;
+			enabled[i] = UNSET;
+		}
+		remappedDrawables.clear();
+		clearTints();
+		version++;
+	}
+
+	private void clearTints() {
+		for(int i = 0; i < tints.length; i++)
+			tints[i] = 1f;
+	}
+
+	/**
+	 * @return number incremented every time an override affecting the pose is modified
+	 */
+	public int getVersion() {
+		return version;
+	}
+}
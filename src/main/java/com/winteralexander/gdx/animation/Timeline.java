@@ -25,15 +25,15 @@ public class Timeline {
 		this.name = timeline.name;
 		this.keys = new Array<>(timeline.getKeys().size);
 
-		for(TimelineKey key : timeline.getKeys())
-			keys.add(new TimelineKey(key));
+		for(int i = 0; i < timeline.keys.size; i++)
+			keys.add(new TimelineKey(timeline.keys.get(i)));
 	}
 
 	public static Array<Timeline> clone(Array<Timeline> timelines) {
 		Array<Timeline> copy = new Array<>();
 
-		for(Timeline timeline : timelines)
-			copy.add(timeline.clone());
+		for(int i = 0; i < timelines.size; i++)
+			copy.add(timelines.get(i).clone());
 
 		return copy;
 	}
@@ -0,0 +1,318 @@
+package com.winteralexander.gdx.animation.binary;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.winteralexander.gdx.animation.Entity;
+import com.winteralexander.gdx.animation.EntityData;
+import com.winteralexander.gdx.animation.EntityNotFoundException;
+import com.winteralexander.gdx.animation.scml.SCMLProject;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static com.winteralexander.gdx.animation.binary.BinaryFormat.*;
+
+/**
+ * Bundle of many projects written by {@link BinaryBundleWriter}. Only the index of the bundle
+ * is read when it is opened. Requesting an entity only reads the assets of its project and that
+ * entity, requesting a project reads the entities of the project that weren't read yet. What is
+ * read from the buffer of the bundle is kept until unloaded.
+ * <p>
+ * Bundles opened from a file are memory-mapped, so the projects that are never requested are
+ * never read from the disk:
+ * <pre>
+ * BinaryBundle bundle = new BinaryBundle(Gdx.files.local("characters.scbn"));
+ * bundle.getReader().setAtlas(atlas);
+ * Entity hero = bundle.getEntity("hero");
+ * </pre>
+ * <p>
+ * Created on 2026-10-18.
+ *
+ * @author Alexander Winter
+ */
+public class BinaryBundle {
+	private final ByteBuffer buffer;
+	private final BinaryProjectReader reader;
+
+	private final Array<String> projectNames;
+	private final ObjectIntMap<String> projectIds;
+	private final int[] offsets, lengths;
+	private final int[][] entityOffsets; // by project then by entity, from the start of the project
+	private final SCMLProject[] projects; // projects with all their entities read
+	private final SCMLProject[] assets; // projects with only their assets read
+	private final EntityData[][] entities; // entities read, by project then by entity
+
+	// project id, index in the project and animation names of every entity, by name
+	private final ObjectIntMap<String> entityProjects = new ObjectIntMap<>();
+	private final ObjectIntMap<String> entityIndices = new ObjectIntMap<>();
+	private final ObjectMap<String, Array<String>> animationNames = new ObjectMap<>();
+
+	/**
+	 * Opens the bundle in the specified file by mapping it in memory. The file must be an actual
+	 * file, not a classpath file or an internal file of an Android APK.
+	 *
+	 * @param file file of the bundle
+	 * @throws IllegalArgumentException if the file isn't a bundle of a supported version
+	 */
+	public BinaryBundle(FileHandle file) {
+		this(file.map());
+	}
+
+	public BinaryBundle(ByteBuffer buffer) {
+		this(buffer, new BinaryProjectReader());
+	}
+
+	/**
+	 * Opens the bundle in the given buffer and reads its index
+	 *
+	 * @param buffer buffer containing the bundle from its position, not modified
+	 * @param reader reader of the projects of the bundle
+	 * @throws IllegalArgumentException if the buffer doesn't contain a bundle of a supported
+	 * version
+	 */
+	public BinaryBundle(ByteBuffer buffer, BinaryProjectReader reader) {
+		this.buffer = buffer.slice().order(ByteOrder.BIG_ENDIAN);
+		this.reader = reader;
+
+		ByteBuffer index = this.buffer.duplicate();
+
+		if(index.getInt() != BUNDLE_MAGIC)
+			throw new IllegalArgumentException("Not a binary Spriter bundle");
+
+		short version = index.getShort();
+		if(version != BUNDLE_VERSION)
+			throw new IllegalArgumentException("Unsupported binary bundle version " + version);
+
+		int projectCount = index.getInt();
+		projectNames = new Array<>(projectCount);
+		projectIds = new ObjectIntMap<>(projectCount);
+		offsets = new int[projectCount];
+		lengths = new int[projectCount];
+		entityOffsets = new int[projectCount][];
+		projects = new SCMLProject[projectCount];
+		assets = new SCMLProject[projectCount];
+		entities = new EntityData[projectCount][];
+
+		for(int i = 0; i < projectCount; i++) {
+			String name = readString(index);
+			projectNames.add(name);
+			projectIds.put(name, i);
+			offsets[i] = index.getInt();
+			lengths[i] = index.getInt();
+
+			int entityCount = index.getInt();
+			entityOffsets[i] = new int[entityCount];
+			entities[i] = new EntityData[entityCount];
+
+			for(int j = 0; j < entityCount; j++) {
+				String entity = readString(index);
+				entityOffsets[i][j] = index.getInt();
+				int animationCount = index.getInt();
+				Array<String> animations = new Array<>(animationCount);
+
+				for(int k = 0; k < animationCount; k++)
+					animations.add(readString(index));
+
+				if(!entityProjects.containsKey(entity)) {
+					entityProjects.put(entity, i);
+					entityIndices.put(entity, j);
+					animationNames.put(entity, animations);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the specified project, reading it from the bundle if it isn't loaded
+	 *
+	 * @param name name of the project in the bundle
+	 * @return the project
+	 * @throws IllegalArgumentException if the bundle has no project with that name
+	 */
+	public SCMLProject getProject(String name) {
+		int id = projectIds.get(name, -1);
+
+		if(id == -1)
+			throw new IllegalArgumentException("Bundle has no project named " + name);
+
+		return getProject(id);
+	}
+
+	/**
+	 * Returns the project at the specified index, reading it from the bundle if it isn't loaded.
+	 * The entities of the project already read by {@link #getEntityData(String)} are reused.
+	 *
+	 * @param index index of the project in the bundle
+	 * @return the project
+	 */
+	public synchronized SCMLProject getProject(int index) {
+		if(projects[index] != null)
+			return projects[index];
+
+		SCMLProject project = getAssets(index);
+		EntityData[] read = entities[index];
+		// entities read now, prepared together
+		SCMLProject pending = new SCMLProject();
+
+		for(int i = 0; i < read.length; i++) {
+			if(read[i] == null) {
+				ByteBuffer data = getData(index);
+				data.position(entityOffsets[index][i]);
+
+				read[i] = reader.readEntity(data, project);
+				pending.getSourceEntities().add(read[i]);
+			}
+			project.getSourceEntities().add(read[i]);
+		}
+
+		reader.prepare(pending);
+		projects[index] = project;
+		return project;
+	}
+
+	/**
+	 * Returns the project at the specified index with only its assets, reading them if they
+	 * weren't
+	 *
+	 * @param index index of the project in the bundle
+	 * @return the project without entities
+	 */
+	private SCMLProject getAssets(int index) {
+		if(assets[index] == null)
+			assets[index] = reader.loadAssets(getData(index));
+
+		return assets[index];
+	}
+
+	/**
+	 * @param index index of the project in the bundle
+	 * @return buffer containing only the specified project, at its start
+	 */
+	private ByteBuffer getData(int index) {
+		ByteBuffer data = buffer.duplicate();
+		data.limit(offsets[index] + lengths[index]);
+		data.position(offsets[index]);
+
+		return data.slice();
+	}
+
+	/**
+	 * Returns a new instance of the requested entity, reading it if it isn't loaded
+	 *
+	 * @param name name of the entity
+	 * @return a new instance of the entity
+	 * @throws EntityNotFoundException if no project of the bundle has that entity
+	 */
+	public Entity getEntity(String name) {
+		return new Entity(getEntityData(name));
+	}
+
+	/**
+	 * Returns the shared data of the requested entity. If it isn't loaded, only the entity and
+	 * the assets of its project are read, not the other entities of the project.
+	 *
+	 * @param name name of the entity
+	 * @return the data of the entity
+	 * @throws EntityNotFoundException if no project of the bundle has that entity
+	 */
+	public synchronized EntityData getEntityData(String name) {
+		int project = getProjectId(name);
+		int index = entityIndices.get(name, -1);
+
+		if(entities[project][index] == null) {
+			ByteBuffer data = getData(project);
+			data.position(entityOffsets[project][index]);
+
+			EntityData entity = reader.readEntity(data, getAssets(project));
+			reader.prepare(entity);
+			entities[project][index] = entity;
+		}
+
+		return entities[project][index];
+	}
+
+	/**
+	 * Returns the index of the project the specified entity is in, without reading the project
+	 *
+	 * @param entity name of the entity
+	 * @return index of the project of the entity
+	 * @throws EntityNotFoundException if no project of the bundle has that entity
+	 */
+	public int getProjectId(String entity) {
+		int id = entityProjects.get(entity, -1);
+
+		if(id == -1)
+			throw new EntityNotFoundException(entity);
+
+		return id;
+	}
+
+	/**
+	 * Returns the names of the animations of the specified entity, without reading its project
+	 *
+	 * @param entity name of the entity
+	 * @return names of the animations, in the order of the animations of the entity
+	 * @throws EntityNotFoundException if no project of the bundle has that entity
+	 */
+	public Array<String> getAnimationNames(String entity) {
+		Array<String> names = animationNames.get(entity);
+
+		if(names == null)
+			throw new EntityNotFoundException(entity);
+
+		return names;
+	}
+
+	public boolean hasEntity(String name) {
+		return entityProjects.containsKey(name);
+	}
+
+	/**
+	 * @param index index of the project in the bundle
+	 * @return true if all the entities of the project are loaded, otherwise false
+	 */
+	public synchronized boolean isLoaded(int index) {
+		return projects[index] != null;
+	}
+
+	/**
+	 * Forgets the project at the specified index and its entities so they are read again from
+	 * the bundle when requested. Entities already created from them are unaffected.
+	 *
+	 * @param index index of the project in the bundle
+	 */
+	public synchronized void unload(int index) {
+		projects[index] = null;
+		assets[index] = null;
+		Arrays.fill(entities[index], null);
+	}
+
+	/**
+	 * Returns the names of the projects of this bundle, by index
+	 *
+	 * @return names of the projects, must not be modified
+	 */
+	public Array<String> getProjectNames() {
+		return projectNames;
+	}
+
+	/**
+	 * Returns the reader the projects are read with, which must be configured before any
+	 * project is read
+	 *
+	 * @return reader of the projects
+	 */
+	public BinaryProjectReader getReader() {
+		return reader;
+	}
+
+	private static String readString(ByteBuffer buffer) {
+		byte[] bytes = new byte[buffer.getInt()];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,158 @@
+package com.winteralexander.gdx.animation.binary;
+
+import com.badlogic.gdx.utils.Array;
+import com.winteralexander.gdx.animation.AnimationData;
+import com.winteralexander.gdx.animation.EntityData;
+import com.winteralexander.gdx.animation.scml.SCMLProject;
+import com.winteralexander.gdx.animation.scml.SCMLReader;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+
+import static com.winteralexander.gdx.animation.binary.BinaryFormat.*;
+
+/**
+ * Writes many {@link SCMLProject}s in a single bundle read by {@link BinaryBundle}, with an index
+ * of their entities and animations so that each project can be read only when it is needed
+ * <p>
+ * Created on 2026-10-18.
+ *
+ * @author Alexander Winter
+ */
+public class BinaryBundleWriter {
+	private final BinaryProjectWriter projectWriter = new BinaryProjectWriter();
+
+	private final Array<String> names = new Array<>();
+	private final Array<SCMLProject> projects = new Array<>();
+
+	/**
+	 * Bundles SCML files: <code>BinaryBundleWriter output.scbn input0.scml input1.scml
+	 * ...</code>. Each project is named after its file, without extension.
+	 *
+	 * @param args path of the bundle to write and paths of the SCML files
+	 * @throws IOException if a file couldn't be read or written
+	 */
+	public static void main(String[] args) throws IOException {
+		if(args.length < 2) {
+			System.err.println("Usage: BinaryBundleWriter <output> <input.scml>...");
+			System.exit(1);
+		}
+
+		SCMLReader reader = new SCMLReader();
+		reader.setBoundsSampleRate(0f);
+		reader.setStreaming(true);
+
+		BinaryBundleWriter writer = new BinaryBundleWriter();
+
+		for(int i = 1; i < args.length; i++) {
+			File file = new File(args[i]);
+			String name = file.getName();
+
+			if(name.lastIndexOf('.') != -1)
+				name = name.substring(0, name.lastIndexOf('.'));
+
+			try(InputStream input = new FileInputStream(file)) {
+				writer.add(name, reader.load(input));
+			}
+		}
+
+		try(OutputStream output = new FileOutputStream(args[0])) {
+			writer.write(output);
+		}
+	}
+
+	/**
+	 * Adds a project to the bundle. Projects must be loaded with the names of their assets, as
+	 * {@link SCMLReader} does.
+	 *
+	 * @param name name of the project in the bundle
+	 * @param project project to add
+	 */
+	public void add(String name, SCMLProject project) {
+		if(names.contains(name, false))
+			throw new IllegalArgumentException("Bundle already contains a project named " + name);
+
+		names.add(name);
+		projects.add(project);
+	}
+
+	public void clear() {
+		names.clear();
+		projects.clear();
+	}
+
+	/**
+	 * Writes the index and the projects added to this writer to the given stream
+	 *
+	 * @param output stream to write to, not closed
+	 * @throws IOException if the output couldn't be written
+	 */
+	public void write(OutputStream output) throws IOException {
+		byte[][] data = new byte[projects.size][];
+		int[][] entityOffsets = new int[projects.size][];
+
+		for(int i = 0; i < projects.size; i++) {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			projectWriter.write(projects.get(i), bytes);
+			data[i] = bytes.toByteArray();
+			entityOffsets[i] = projectWriter.getEntityOffsets().toArray();
+		}
+
+		// the size of the index doesn't depend on the offsets written in it
+		int offset = writeIndex(new DataOutputStream(new ByteArrayOutputStream()), data,
+				entityOffsets, 0);
+
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(output));
+		writeIndex(out, data, entityOffsets, offset);
+
+		for(byte[] project : data)
+			out.write(project);
+
+		out.flush();
+	}
+
+	/**
+	 * Writes the index of the bundle
+	 *
+	 * @param out stream to write to
+	 * @param data written projects
+	 * @param entityOffsets offsets of the entities of each project, from the start of the project
+	 * @param offset offset of the first project
+	 * @return size of the index
+	 * @throws IOException if the output couldn't be written
+	 */
+	private int writeIndex(DataOutputStream out, byte[][] data, int[][] entityOffsets,
+	                       int offset) throws IOException {
+		out.writeInt(BUNDLE_MAGIC);
+		out.writeShort(BUNDLE_VERSION);
+		out.writeInt(projects.size);
+
+		for(int i = 0; i < projects.size; i++) {
+			writeString(out, names.get(i));
+			out.writeInt(offset);
+			out.writeInt(data[i].length);
+			offset += data[i].length;
+
+			Array<EntityData> entities = projects.get(i).getSourceEntities();
+			out.writeInt(entities.size);
+			for(int j = 0; j < entities.size; j++) {
+				Array<AnimationData> animations = entities.get(j).getAnimations();
+
+				writeString(out, entities.get(j).getName());
+				out.writeInt(entityOffsets[i][j]);
+				out.writeInt(animations.size);
+				for(int k = 0; k < animations.size; k++)
+					writeString(out, animations.get(k).getName());
+			}
+		}
+
+		out.flush();
+		return out.size();
+	}
+
+	private static void writeString(DataOutputStream out, String string) throws IOException {
+		byte[] bytes = (string != null ? string : "").getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+}
@@ -0,0 +1,53 @@
+package com.winteralexander.gdx.animation.binary;
+
+/**
+ * Constants of the binary format of {@link com.winteralexander.gdx.animation.scml.SCMLProject}s.
+ * All values are big endian, strings are written as their length in bytes followed by their
+ * UTF-8 bytes.
+ * <pre>
+ * int magic, short version
+ * int assetCount, asset[assetCount]
+ *     asset: int key, string name, float pivotX, float pivotY, float width, float height
+ * int entityCount, entity[entityCount]
+ *     entity: string name, int animationCount, animation[animationCount]
+ *     animation: string name, int length, boolean looping,
+ *                int mainlineKeyCount, mainlineKey[mainlineKeyCount],
+ *                int timelineCount, timeline[timelineCount]
+ *     mainlineKey: int time, curve, int refCount, ref[refCount]
+ *     ref: int timeline, int key, int parent (index of the parent ref, -1 for none)
+ *     timeline: int id, string name, int keyCount, key[keyCount]
+ *     key: int time, int spin, curve, byte type,
+ *          float x, float y, float scaleX, float scaleY, float angle, float alpha,
+ *          (sprites only) int assetKey (-1 for none), int zIndex
+ *     curve: byte type (ordinal of CurveType), float c1, float c2, float c3, float c4
+ * </pre>
+ * The size of the assets is used until they are given a texture region, version 1 didn't have it.
+ * <p>
+ * Bundles of many projects start with an index of their projects, entities and animations
+ * followed by the projects, each in the format above. The offsets of the entities allow reading
+ * a single entity after the assets of its project.
+ * <pre>
+ * int bundleMagic, short version
+ * int projectCount, project[projectCount]
+ *     project: string name, int offset (from the start of the bundle), int length,
+ *              int entityCount, entity[entityCount]
+ *     entity: string name, int offset (from the start of its project),
+ *             int animationCount, string animationName[animationCount]
+ * </pre>
+ * <p>
+ * Created on 2026-10-18.
+ *
+ * @author Alexander Winter
+ */
+final class BinaryFormat {
+	static final int MAGIC = 0x53434D42; // SCMB
+	static final short VERSION = 2;
+	static final short VERSION_WITHOUT_ASSET_SIZE = 1;
+
+	static final int BUNDLE_MAGIC = 0x5343424E; // SCBN
+	static final short BUNDLE_VERSION = 2;
+
+	static final byte TYPE_BONE = 0, TYPE_SPRITE = 1;
+
+	private BinaryFormat() {}
+}
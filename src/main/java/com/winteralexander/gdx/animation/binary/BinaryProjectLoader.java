@@ -0,0 +1,56 @@
+package com.winteralexander.gdx.animation.binary;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.SynchronousAssetLoader;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.Array;
+import com.winteralexander.gdx.animation.scml.SCMLLoader.SCMLProjectParameters;
+import com.winteralexander.gdx.animation.scml.SCMLProject;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Loads a project written by {@link BinaryProjectWriter} into LibGDX's AssetManager. It is
+ * loaded as an {@link SCMLProject}, with the same parameters as
+ * {@link com.winteralexander.gdx.animation.scml.SCMLLoader}:
+ * <pre>
+ * manager.setLoader(SCMLProject.class, ".scmb", new BinaryProjectLoader(resolver));
+ * </pre>
+ * <p>
+ * Created on 2026-10-18.
+ *
+ * @author Alexander Winter
+ */
+public class BinaryProjectLoader extends SynchronousAssetLoader<SCMLProject,
+		SCMLProjectParameters> {
+	private final BinaryProjectReader reader;
+
+	public BinaryProjectLoader(FileHandleResolver resolver) {
+		this(resolver, new BinaryProjectReader());
+	}
+
+	public BinaryProjectLoader(FileHandleResolver resolver, BinaryProjectReader reader) {
+		super(resolver);
+		this.reader = reader;
+	}
+
+	@Override
+	public SCMLProject load(AssetManager assetManager, String fileName, FileHandle file,
+	                        SCMLProjectParameters params) {
+		reader.setAtlas(assetManager.get(params.textureAtlasName));
+		return reader.load(ByteBuffer.wrap(file.readBytes()));
+	}
+
+	@Override
+	public Array<AssetDescriptor> getDependencies(String fileName, FileHandle file,
+	                                              SCMLProjectParameters params) {
+		AssetDescriptor<TextureAtlas> descriptor = new AssetDescriptor<>(params.textureAtlasName,
+				TextureAtlas.class);
+		Array<AssetDescriptor> array = new Array<>();
+		array.add(descriptor);
+		return array;
+	}
+}
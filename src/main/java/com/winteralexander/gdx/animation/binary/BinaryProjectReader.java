@@ -0,0 +1,291 @@
+package com.winteralexander.gdx.animation.binary;
+
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntMap;
+import com.winteralexander.gdx.animation.*;
+import com.winteralexander.gdx.animation.drawable.TextureSpriteDrawable;
+import com.winteralexander.gdx.animation.math.Curve;
+import com.winteralexander.gdx.animation.scml.SCMLProject;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static com.winteralexander.gdx.animation.binary.BinaryFormat.*;
+
+/**
+ * Reads {@link SCMLProject}s written by {@link BinaryProjectWriter} straight from a
+ * {@link ByteBuffer}, without any text parsing
+ * <p>
+ * Created on 2026-10-18.
+ *
+ * @author Alexander Winter
+ */
+public class BinaryProjectReader {
+	private static final Curve.CurveType[] CURVE_TYPES = Curve.CurveType.values();
+
+	private TextureAtlas atlas;
+	private float bezierTolerance = Curve.DEFAULT_BEZIER_TOLERANCE;
+	private float bakeSampleRate = 0f;
+	private float boundsSampleRate = 0f;
+
+	private final Vector2 position = new Vector2(), scale = new Vector2();
+	private byte[] stringBuffer = new byte[64];
+
+	/**
+	 * Reads the project in the given buffer, from its position
+	 *
+	 * @param buffer buffer containing the project
+	 * @return the project
+	 * @throws IllegalArgumentException if the buffer doesn't contain a project of a supported
+	 * version
+	 */
+	public SCMLProject load(ByteBuffer buffer) {
+		SCMLProject project = loadAssets(buffer);
+
+		int entityCount = buffer.getInt();
+		for(int i = 0; i < entityCount; i++)
+			project.getSourceEntities().add(readEntity(buffer, project));
+
+		prepare(project);
+		return project;
+	}
+
+	/**
+	 * Reads the assets of the project in the given buffer, without its entities. The buffer is
+	 * left at the amount of entities, the entities can then be read one by one with
+	 * {@link #readEntity(ByteBuffer, SCMLProject)}.
+	 *
+	 * @param buffer buffer containing the project, from its position
+	 * @return project with the assets and no entities
+	 * @throws IllegalArgumentException if the buffer doesn't contain a project of a supported
+	 * version
+	 */
+	SCMLProject loadAssets(ByteBuffer buffer) {
+		if(buffer.getInt() != MAGIC)
+			throw new IllegalArgumentException("Not a binary Spriter project");
+
+		short version = buffer.getShort();
+		if(version != VERSION && version != VERSION_WITHOUT_ASSET_SIZE)
+			throw new IllegalArgumentException("Unsupported binary project version " + version);
+
+		SCMLProject project = new SCMLProject();
+
+		int assetCount = buffer.getInt();
+		for(int i = 0; i < assetCount; i++) {
+			int key = buffer.getInt();
+			String name = readString(buffer);
+			float pivotX = buffer.getFloat();
+			float pivotY = buffer.getFloat();
+			float width = 0f, height = 0f;
+
+			if(version != VERSION_WITHOUT_ASSET_SIZE) {
+				width = buffer.getFloat();
+				height = buffer.getFloat();
+			}
+
+			// assets without texture region keep their size until one is set, as in SCMLReader
+			TextureRegion region = atlas != null ? atlas.findRegion(name) : null;
+			project.putAsset(key >>> 16, key & 0xFFFF, name, region != null
+					? new TextureSpriteDrawable(region, pivotX, pivotY)
+					: new TextureSpriteDrawable(null, pivotX, pivotY, width, height));
+		}
+
+		return project;
+	}
+
+	/**
+	 * Reads the entity at the position of the given buffer, without baking it or computing its
+	 * bounds
+	 *
+	 * @param buffer buffer positioned at the entity
+	 * @param project project the entity is in, with its assets
+	 * @return the entity
+	 * @see #prepare(SCMLProject)
+	 */
+	EntityData readEntity(ByteBuffer buffer, SCMLProject project) {
+		String name = readString(buffer);
+		int animationCount = buffer.getInt();
+		Array<AnimationData> animations = new Array<>(animationCount);
+
+		for(int i = 0; i < animationCount; i++)
+			animations.add(readAnimation(buffer, project.getAssets()));
+
+		return new EntityData(name, animations);
+	}
+
+	/**
+	 * Bakes the animations of the entities of the given project and computes their bounds, as
+	 * set on this reader
+	 *
+	 * @param project project to prepare
+	 */
+	void prepare(SCMLProject project) {
+		if(bakeSampleRate > 0f)
+			project.bake(bakeSampleRate);
+
+		if(boundsSampleRate > 0f)
+			project.computeBounds(boundsSampleRate, AnimationBounds.DEFAULT_PADDING);
+	}
+
+	/**
+	 * Bakes the animations of the given entity and computes their bounds, as set on this reader
+	 *
+	 * @param entity entity to prepare
+	 */
+	void prepare(EntityData entity) {
+		for(int i = 0; i < entity.getAnimations().size; i++) {
+			AnimationData animation = entity.getAnimations().get(i);
+
+			if(bakeSampleRate > 0f)
+				animation.bake(bakeSampleRate);
+
+			if(boundsSampleRate > 0f)
+				animation.computeBounds(boundsSampleRate, AnimationBounds.DEFAULT_PADDING);
+		}
+	}
+
+	private AnimationData readAnimation(ByteBuffer buffer,
+	                                    IntMap<TextureSpriteDrawable> assets) {
+		String name = readString(buffer);
+		int length = buffer.getInt();
+		boolean looping = buffer.get() != 0;
+
+		int mainlineKeyCount = buffer.getInt();
+		Mainline mainline = new Mainline(mainlineKeyCount);
+		for(int i = 0; i < mainlineKeyCount; i++) {
+			int time = buffer.getInt();
+			Curve curve = readCurve(buffer);
+			int refCount = buffer.getInt();
+			Array<ObjectRef> refs = new Array<>(refCount);
+
+			for(int j = 0; j < refCount; j++) {
+				int timeline = buffer.getInt();
+				int key = buffer.getInt();
+				int parent = buffer.getInt();
+
+				refs.add(new ObjectRef(timeline, key, parent != -1 ? refs.get(parent) : null));
+			}
+
+			mainline.getKeys().add(new MainlineKey(time, curve, refs));
+		}
+
+		int timelineCount = buffer.getInt();
+		Array<Timeline> timelines = new Array<>(timelineCount);
+		for(int i = 0; i < timelineCount; i++) {
+			int id = buffer.getInt();
+			String timelineName = readString(buffer);
+			int keyCount = buffer.getInt();
+			Array<TimelineKey> keys = new Array<>(keyCount);
+
+			for(int j = 0; j < keyCount; j++)
+				keys.add(readKey(buffer, assets));
+
+			timelines.add(new Timeline(id, timelineName, keys));
+		}
+
+		return new AnimationData(name, length, looping, mainline, timelines);
+	}
+
+	private TimelineKey readKey(ByteBuffer buffer, IntMap<TextureSpriteDrawable> assets) {
+		TimelineKey key = new TimelineKey(buffer.getInt(), buffer.getInt(), readCurve(buffer));
+		byte type = buffer.get();
+
+		position.set(buffer.getFloat(), buffer.getFloat());
+		scale.set(buffer.getFloat(), buffer.getFloat());
+		float angle = buffer.getFloat();
+		float alpha = buffer.getFloat();
+
+		if(type == TYPE_SPRITE) {
+			int assetKey = buffer.getInt();
+			int zIndex = buffer.getInt();
+
+			key.setObject(new Sprite(assetKey != -1 ? assets.get(assetKey) : null,
+					position, scale, angle, alpha, zIndex));
+		} else
+			key.setObject(new AnimatedPart(position, scale, angle, alpha));
+
+		return key;
+	}
+
+	private Curve readCurve(ByteBuffer buffer) {
+		Curve curve = new Curve(CURVE_TYPES[buffer.get()],
+				buffer.getFloat(), buffer.getFloat(), buffer.getFloat(), buffer.getFloat());
+
+		if(bezierTolerance != Curve.DEFAULT_BEZIER_TOLERANCE)
+			curve.setBezierTolerance(bezierTolerance);
+
+		return curve;
+	}
+
+	private String readString(ByteBuffer buffer) {
+		int length = buffer.getInt();
+
+		if(buffer.hasArray()) {
+			String string = new String(buffer.array(), buffer.arrayOffset() + buffer.position(),
+					length, StandardCharsets.UTF_8);
+			buffer.position(buffer.position() + length);
+			return string;
+		}
+
+		if(stringBuffer.length < length)
+			stringBuffer = new byte[Math.max(length, stringBuffer.length * 2)];
+
+		buffer.get(stringBuffer, 0, length);
+		return new String(stringBuffer, 0, length, StandardCharsets.UTF_8);
+	}
+
+	public float getBezierTolerance() {
+		return bezierTolerance;
+	}
+
+	/**
+	 * Sets the maximum error of the lookup tables of the bezier curves loaded by this reader
+	 *
+	 * @param bezierTolerance the maximum error
+	 * @see Curve#setBezierTolerance(float)
+	 */
+	public void setBezierTolerance(float bezierTolerance) {
+		this.bezierTolerance = bezierTolerance;
+	}
+
+	public float getBakeSampleRate() {
+		return bakeSampleRate;
+	}
+
+	/**
+	 * Sets the rate at which the animations loaded by this reader are baked, 0 to not bake them
+	 *
+	 * @param bakeSampleRate amount of samples per second
+	 * @see SCMLProject#bake(float)
+	 */
+	public void setBakeSampleRate(float bakeSampleRate) {
+		this.bakeSampleRate = bakeSampleRate;
+	}
+
+	public float getBoundsSampleRate() {
+		return boundsSampleRate;
+	}
+
+	/**
+	 * Sets the rate at which the animations loaded by this reader are sampled to compute their
+	 * bounding boxes, 0 (the default) to not compute them. Animations without bounding boxes are
+	 * never culled. The boxes are sampled and may miss fast motion, see {@link AnimationBounds}.
+	 *
+	 * @param boundsSampleRate amount of samples per second
+	 * @see SCMLProject#computeBounds(float, float)
+	 */
+	public void setBoundsSampleRate(float boundsSampleRate) {
+		this.boundsSampleRate = boundsSampleRate;
+	}
+
+	public TextureAtlas getAtlas() {
+		return atlas;
+	}
+
+	public void setAtlas(TextureAtlas atlas) {
+		this.atlas = atlas;
+	}
+}
@@ -0,0 +1,150 @@
+package com.winteralexander.gdx.animation.drawable;
+
+import com.badlogic.gdx.graphics.Color;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Flat list of the texture regions a {@link SpriteDrawable} draws, each with the product of the
+ * tints of all the drawables wrapping it. Drawing the commands gives the same result as drawing
+ * the drawable, without walking the tree of drawables or changing the batch color.
+ * <p>
+ * {@link TintedSpriteDrawable} and {@link MultiSpriteDrawable} keep their commands until they
+ * are invalidated by one of their setters, which also invalidates the drawables containing them.
+ * <p>
+ * Created on 2026-10-18.
+ *
+ * @author Alexander Winter
+ */
+public final class DrawCommands {
+	private static final DrawCommands EMPTY = new DrawCommands(new TextureSpriteDrawable[0],
+			new float[0]);
+
+	private final TextureSpriteDrawable[] drawables;
+	private final float[] tints; // red, green, blue and alpha of each drawable
+
+	private DrawCommands(TextureSpriteDrawable[] drawables, float[] tints) {
+		this.drawables = drawables;
+		this.tints = tints;
+	}
+
+	/**
+	 * @param drawable drawable to draw
+	 * @return commands drawing the given drawable without tint
+	 */
+	static DrawCommands of(TextureSpriteDrawable drawable) {
+		return new DrawCommands(new TextureSpriteDrawable[] { drawable },
+				new float[] { 1f, 1f, 1f, 1f });
+	}
+
+	/**
+	 * @param commands commands to tint, null for a drawable drawing nothing
+	 * @param color tint wrapping the commands
+	 * @return the given commands tinted with the given color
+	 */
+	static DrawCommands tint(DrawCommands commands, Color color) {
+		if(commands == null)
+			return EMPTY;
+
+		float[] tints = new float[commands.tints.length];
+
+		for(int i = 0; i < tints.length; i += 4) {
+			tints[i] = commands.tints[i] * color.r;
+			tints[i + 1] = commands.tints[i + 1] * color.g;
+			tints[i + 2] = commands.tints[i + 2] * color.b;
+			tints[i + 3] = commands.tints[i + 3] * color.a;
+		}
+
+		return new DrawCommands(commands.drawables, tints);
+	}
+
+	/**
+	 * @param commands commands to draw one after the other
+	 * @return commands drawing all the given commands
+	 */
+	static DrawCommands concat(DrawCommands[] commands) {
+		int size = 0;
+		for(DrawCommands child : commands)
+			size += child.size();
+
+		TextureSpriteDrawable[] drawables = new TextureSpriteDrawable[size];
+		float[] tints = new float[size * 4];
+		int index = 0;
+
+		for(DrawCommands child : commands) {
+			System.arraycopy(child.drawables, 0, drawables, index, child.size());
+			System.arraycopy(child.tints, 0, tints, index * 4, child.tints.length);
+			index += child.size();
+		}
+
+		return new DrawCommands(drawables, tints);
+	}
+
+	/**
+	 * Creates the set of drawables to invalidate when the commands of a drawable change
+	 *
+	 * @return set of drawables, not keeping them from being garbage collected
+	 */
+	static Set<SpriteDrawable> createDependents() {
+		return Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+	}
+
+	/**
+	 * Makes the given drawable invalidated along with the specified drawable, if the commands of
+	 * the specified drawable can change
+	 *
+	 * @param drawable drawable the given drawable contains
+	 * @param dependent drawable compiled from the specified drawable
+	 */
+	static void addDependent(SpriteDrawable drawable, SpriteDrawable dependent) {
+		if(drawable instanceof TintedSpriteDrawable)
+			((TintedSpriteDrawable)drawable).dependents.add(dependent);
+		else if(drawable instanceof MultiSpriteDrawable)
+			((MultiSpriteDrawable)drawable).dependents.add(dependent);
+	}
+
+	/**
+	 * Invalidates the commands of the given drawables
+	 *
+	 * @param dependents drawables compiled from a drawable that changed
+	 */
+	static void invalidate(Set<SpriteDrawable> dependents) {
+		SpriteDrawable[] drawables;
+		synchronized(dependents) {
+			drawables = dependents.toArray(new SpriteDrawable[0]);
+		}
+
+		for(SpriteDrawable drawable : drawables) {
+			if(drawable instanceof TintedSpriteDrawable)
+				((TintedSpriteDrawable)drawable).invalidate();
+			else if(drawable instanceof MultiSpriteDrawable)
+				((MultiSpriteDrawable)drawable).invalidate();
+		}
+	}
+
+	public int size() {
+		return drawables.length;
+	}
+
+	public TextureSpriteDrawable getDrawable(int index) {
+		return drawables[index];
+	}
+
+	public float getRed(int index) {
+		return tints[index * 4];
+	}
+
+	public float getGreen(int index) {
+		return tints[index * 4 + 1];
+	}
+
+	public float getBlue(int index) {
+		return tints[index * 4 + 2];
+	}
+
+	public float getAlpha(int index) {
+		return tints[index * 4 + 3];
+	}
+}
@@ -3,6 +3,8 @@ package com.winteralexander.gdx.animation.drawable;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.winteralexander.gdx.animation.Sprite;
 
+import java.util.Set;
+
 /**
  * Draws multiple sprite drawables, one on top of to the other
  * <p>
@@ -12,9 +14,15 @@ import com.winteralexander.gdx.animation.Sprite;
  */
 public class MultiSpriteDrawable implements SpriteDrawable {
 	private final SpriteDrawable[] drawables;
+	private DrawCommands commands;
+
+	final Set<SpriteDrawable> dependents = DrawCommands.createDependents();
 
 	public MultiSpriteDrawable(SpriteDrawable... drawables) {
 		this.drawables = drawables;
+
+		for(SpriteDrawable drawable : drawables)
+			DrawCommands.addDependent(drawable, this);
 	}
 
 	@Override
@@ -23,7 +31,45 @@ public class MultiSpriteDrawable implements SpriteDrawable {
 			drawable.draw(sprite, batch);
 	}
 
+	@Override
+	public DrawCommands getDrawCommands() {
+		DrawCommands commands = this.commands;
+
+		if(commands == null) {
+			DrawCommands[] children = new DrawCommands[drawables.length];
+
+			for(int i = 0; i < drawables.length; i++)
+				if((children[i] = drawables[i].getDrawCommands()) == null)
+					return null;
+
+			commands = DrawCommands.concat(children);
+			this.commands = commands;
+		}
+		return commands;
+	}
+
+	/**
+	 * Discards the commands of this drawable and of the drawables containing it, they are
+	 * compiled again on next draw. Must be called after replacing drawables in the array of
+	 * {@link #getDrawables()}, {@link #setDrawable(int, SpriteDrawable)} already does it.
+	 */
+	public void invalidate() {
+		for(SpriteDrawable drawable : drawables)
+			DrawCommands.addDependent(drawable, this);
+
+		commands = null;
+		DrawCommands.invalidate(dependents);
+	}
+
+	/**
+	 * @return drawables drawn by this drawable, call {@link #invalidate()} after modifying it
+	 */
 	public SpriteDrawable[] getDrawables() {
 		return drawables;
 	}
+
+	public void setDrawable(int index, SpriteDrawable drawable) {
+		drawables[index] = drawable;
+		invalidate();
+	}
 }
@@ -12,4 +12,14 @@ import com.winteralexander.gdx.animation.Sprite;
  */
 public interface SpriteDrawable {
 	void draw(Sprite sprite, Batch batch);
+
+	/**
+	 * Returns this drawable flattened into a list of draw commands, which animations draw
+	 * instead of calling {@link #draw(Sprite, Batch)}
+	 *
+	 * @return commands of this drawable, null if it can't be flattened
+	 */
+	default DrawCommands getDrawCommands() {
+		return null;
+	}
 }
@@ -3,6 +3,7 @@ package com.winteralexander.gdx.animation.drawable;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
 import com.winteralexander.gdx.animation.Sprite;
 
 /**
@@ -11,9 +12,16 @@ import com.winteralexander.gdx.animation.Sprite;
  * @author Alexander Winter
  */
 public class TextureSpriteDrawable implements SpriteDrawable {
-	protected final TextureRegion region;
+	/**
+	 * Amount of floats written by {@link #computeVertices}, in the format expected by
+	 * {@link Batch#draw(com.badlogic.gdx.graphics.Texture, float[], int, int)}
+	 */
+	public static final int QUAD_SIZE = 20;
+
+	protected TextureRegion region;
 	protected final float pivotX, pivotY;
-	protected final float width, height;
+	protected float width, height;
+	private final DrawCommands commands = DrawCommands.of(this);
 
 	public TextureSpriteDrawable(TextureRegion region, float pivotX, float pivotY) {
 		this(region, pivotX, pivotY, region != null ? region.getRegionWidth() : 0f,
@@ -40,6 +48,24 @@ public class TextureSpriteDrawable implements SpriteDrawable {
 
 	@Override
 	public void draw(Sprite sprite, Batch batch) {
+		draw(batch, sprite.getPosition().x, sprite.getPosition().y,
+				sprite.getScale().x, sprite.getScale().y, sprite.getAngle(), sprite.getAlpha());
+	}
+
+	/**
+	 * Draws the texture region of this asset with the given transform, without going through a
+	 * {@link Sprite}
+	 *
+	 * @param batch batch to draw into
+	 * @param x x position of the pivot point
+	 * @param y y position of the pivot point
+	 * @param scaleX horizontal scale
+	 * @param scaleY vertical scale
+	 * @param angle rotation in degrees
+	 * @param alpha alpha the batch color is multiplied with
+	 */
+	public void draw(Batch batch, float x, float y, float scaleX, float scaleY, float angle,
+	                 float alpha) {
 		if(region == null || region.getTexture() == null)
 			return;
 
@@ -49,20 +75,120 @@ public class TextureSpriteDrawable implements SpriteDrawable {
 		float prevColor = batch.getPackedColor();
 
 		Color tmp = batch.getColor();
-		tmp.a *= sprite.getAlpha();
+		tmp.a *= alpha;
 		batch.setColor(tmp);
 
-		batch.draw(region, sprite.getPosition().x - originX, sprite.getPosition().y - originY,
-				originX, originY, width, height, sprite.getScale().x, sprite.getScale().y,
-				sprite.getAngle());
+		batch.draw(region, x - originX, y - originY,
+				originX, originY, width, height, scaleX, scaleY, angle);
 
 		batch.setPackedColor(prevColor);
 	}
 
+	/**
+	 * Computes the four vertices of the quad of this asset with the given transform, as
+	 * {@link Batch#draw(TextureRegion, float, float, float, float, float, float, float, float,
+	 * float)} would, so that many quads of the same texture can be submitted at once.
+	 *
+	 * @param vertices array to write {@link #QUAD_SIZE} floats into
+	 * @param offset index of the first float to write
+	 * @param x x position of the pivot point
+	 * @param y y position of the pivot point
+	 * @param scaleX horizontal scale
+	 * @param scaleY vertical scale
+	 * @param angle rotation in degrees
+	 * @param color packed color of the vertices
+	 * @return false if this asset has no texture, in which case nothing is written
+	 */
+	public boolean computeVertices(float[] vertices, int offset,
+	                               float x, float y, float scaleX, float scaleY, float angle,
+	                               float color) {
+		if(region == null || region.getTexture() == null)
+			return false;
+
+		float originX = width * getPivotX();
+		float originY = height * getPivotY();
+
+		// corners relative to the pivot
+		float fx = -originX * scaleX;
+		float fy = -originY * scaleY;
+		float fx2 = (width - originX) * scaleX;
+		float fy2 = (height - originY) * scaleY;
+
+		float x1, y1, x2, y2, x3, y3, x4, y4;
+
+		if(angle != 0f) {
+			float cos = MathUtils.cosDeg(angle);
+			float sin = MathUtils.sinDeg(angle);
+
+			x1 = cos * fx - sin * fy;
+			y1 = sin * fx + cos * fy;
+			x2 = cos * fx - sin * fy2;
+			y2 = sin * fx + cos * fy2;
+			x3 = cos * fx2 - sin * fy2;
+			y3 = sin * fx2 + cos * fy2;
+			x4 = x1 + (x3 - x2);
+			y4 = y3 - (y2 - y1);
+		} else {
+			x1 = fx;
+			y1 = fy;
+			x2 = fx;
+			y2 = fy2;
+			x3 = fx2;
+			y3 = fy2;
+			x4 = fx2;
+			y4 = fy;
+		}
+
+		float u = region.getU(), v = region.getV2();
+		float u2 = region.getU2(), v2 = region.getV();
+
+		vertices[offset] = x1 + x;
+		vertices[offset + 1] = y1 + y;
+		vertices[offset + 2] = color;
+		vertices[offset + 3] = u;
+		vertices[offset + 4] = v;
+
+		vertices[offset + 5] = x2 + x;
+		vertices[offset + 6] = y2 + y;
+		vertices[offset + 7] = color;
+		vertices[offset + 8] = u;
+		vertices[offset + 9] = v2;
+
+		vertices[offset + 10] = x3 + x;
+		vertices[offset + 11] = y3 + y;
+		vertices[offset + 12] = color;
+		vertices[offset + 13] = u2;
+		vertices[offset + 14] = v2;
+
+		vertices[offset + 15] = x4 + x;
+		vertices[offset + 16] = y4 + y;
+		vertices[offset + 17] = color;
+		vertices[offset + 18] = u2;
+		vertices[offset + 19] = v;
+		return true;
+	}
+
+	@Override
+	public DrawCommands getDrawCommands() {
+		return commands;
+	}
+
 	public TextureRegion getRegion() {
 		return region;
 	}
 
+	/**
+	 * Sets the texture region of this asset, which then has the size of the region. Used to
+	 * bind assets loaded without atlas once the atlas is available.
+	 *
+	 * @param region TextureRegion of this asset
+	 */
+	public void setRegion(TextureRegion region) {
+		this.region = region;
+		this.width = region != null ? region.getRegionWidth() : 0f;
+		this.height = region != null ? region.getRegionHeight() : 0f;
+	}
+
 	public float getPivotX() {
 		return pivotX;
 	}
@@ -4,6 +4,8 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.winteralexander.gdx.animation.Sprite;
 
+import java.util.Set;
+
 /**
  * Drawable tinted with a specified color
  * <p>
@@ -13,15 +15,18 @@ import com.winteralexander.gdx.animation.Sprite;
  */
 public class TintedSpriteDrawable implements SpriteDrawable {
 	private final SpriteDrawable drawable;
-	private Color color;
+	private final Color color = new Color(Color.WHITE);
+	private DrawCommands commands;
+
+	final Set<SpriteDrawable> dependents = DrawCommands.createDependents();
 
 	public TintedSpriteDrawable(SpriteDrawable drawable, Color color) {
 		this.drawable = drawable;
 
-		if(color == null)
-			this.color = Color.WHITE;
-		else
-			this.color = color;
+		if(color != null)
+			this.color.set(color);
+
+		DrawCommands.addDependent(drawable, this);
 	}
 
 	@Override
@@ -37,18 +42,45 @@ public class TintedSpriteDrawable implements SpriteDrawable {
 		batch.setPackedColor(prevColor);
 	}
 
+	@Override
+	public DrawCommands getDrawCommands() {
+		DrawCommands commands = this.commands;
+
+		if(commands == null) {
+			DrawCommands inner = null;
+
+			if(drawable != null && (inner = drawable.getDrawCommands()) == null)
+				return null;
+
+			commands = DrawCommands.tint(inner, color);
+			this.commands = commands;
+		}
+		return commands;
+	}
+
+	/**
+	 * Discards the tinted commands of this drawable and of the drawables containing it, they are
+	 * compiled again on next draw. Only needed when the inner drawable is modified in a way
+	 * changing its draw commands, {@link #setColor(Color)} already does it.
+	 */
+	public void invalidate() {
+		commands = null;
+		DrawCommands.invalidate(dependents);
+	}
+
 	public SpriteDrawable getInnerDrawable() {
 		return drawable;
 	}
 
+	/**
+	 * @return copy of the tint of this drawable, use {@link #setColor(Color)} to change it
+	 */
 	public Color getColor() {
-		return color;
+		return new Color(color);
 	}
 
 	public void setColor(Color color) {
-		if(color == null)
-			this.color = Color.WHITE;
-		else
-			this.color = color;
+		this.color.set(color != null ? color : Color.WHITE);
+		invalidate();
 	}
 }
@@ -1,5 +1,6 @@
 package com.winteralexander.gdx.animation.math;
 
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 
 /**
@@ -16,7 +17,30 @@ public class Curve {
 	 */
 	public final Constraints constraints = new Constraints(0, 0, 0, 0);
 	private CurveType type;
-	private float lastCubicSolution = 0f;
+
+	/**
+	 * Default maximum error of the lookup table used to evaluate {@link CurveType#BEZIER} curves
+	 */
+	public static final float DEFAULT_BEZIER_TOLERANCE = 0.001f;
+
+	/**
+	 * Maximum number of samples of the lookup table of a {@link CurveType#BEZIER} curve
+	 */
+	private static final int MAX_BEZIER_SAMPLES = 1025;
+
+	private float bezierTolerance = DEFAULT_BEZIER_TOLERANCE;
+
+	/**
+	 * Values of a {@link CurveType#BEZIER} curve sampled at regular intervals of its input, null
+	 * for other types
+	 */
+	private float[] bezierTable;
+
+	/**
+	 * Coefficients of t, t^2, ..., t^n of the easing of curves of types {@link CurveType#QUADRATIC}
+	 * to {@link CurveType#QUINTIC}, null for other types
+	 */
+	private float[] polynomial;
 
 	/**
 	 * Creates a new curve with the given type.
@@ -25,6 +49,24 @@ public class Curve {
 	 */
 	public Curve(CurveType type) {
 		this.type = type;
+		constraints.curve = this;
+		compile();
+	}
+
+	/**
+	 * Creates a new curve with the given type and constraints.
+	 *
+	 * @param type the curve type
+	 * @param c1 first constraint
+	 * @param c2 second constraint
+	 * @param c3 third constraint
+	 * @param c4 fourth constraint
+	 */
+	public Curve(CurveType type, float c1, float c2, float c3, float c4) {
+		this.type = type;
+		constraints.set(c1, c2, c3, c4);
+		constraints.curve = this;
+		compile();
 	}
 
 	/**
@@ -50,48 +92,162 @@ public class Curve {
 	 * @return tweened angle
 	 */
 	public float interpolateAngle(float a, float b, float value, int spin) {
-		if(spin > 0) {
-			if(b - a < 0)
-				b += 360;
-		} else if(spin < 0) {
-			if(b - a > 0)
-				b -= 360;
-		} else
-			return a;
-
-		return interpolate(a, b, value);
+		return Interpolator.spinAngle(a, b, getWeight(value), spin);
 	}
 
 	public float interpolate(float a, float b, float value) {
+		return Interpolator.linear(a, b, getWeight(value));
+	}
+
+	/**
+	 * Returns the normalized easing of this curve for the given weight. Interpolating between two
+	 * values with this curve is the same as interpolating linearly between them with the returned
+	 * easing, it can then be evaluated once to tween many values with the same weight.
+	 *
+	 * @param value the weight which lies between 0.0 and 1.0
+	 * @return the easing of this curve, 0.0 at the start point and 1.0 at the end point
+	 */
+	public float getWeight(float value) {
 		switch(type) {
 			case INSTANT:
-				return a;
-			case LINEAR:
-				return Interpolator.linear(a, b, value);
+				return 0f;
 			case QUADRATIC:
-				return Interpolator.quadratic(a, Interpolator.linear(a, b, constraints.c1), b, value);
 			case CUBIC:
-				return Interpolator.cubic(a, Interpolator.linear(a, b, constraints.c1), Interpolator.linear(a, b, constraints.c2), b,
-						value);
 			case QUARTIC:
-				return Interpolator.quartic(a, Interpolator.linear(a, b, constraints.c1), Interpolator.linear(a, b, constraints.c2),
-						Interpolator.linear(a, b, constraints.c3), b, value);
 			case QUINTIC:
-				return Interpolator.quintic(a, Interpolator.linear(a, b, constraints.c1), Interpolator.linear(a, b, constraints.c2),
-						Interpolator.linear(a, b, constraints.c3), Interpolator.linear(a, b, constraints.c4), b, value);
+				float[] coefficients = polynomial;
+				float weight = 0f;
+				for(int i = coefficients.length - 1; i >= 0; i--)
+					weight = (weight + coefficients[i]) * value;
+				return weight;
 			case BEZIER:
-				float cubicSolution = Interpolator.solveCubic(3f * (constraints.c1 - constraints.c3) + 1f,
-						3f * (constraints.c3 - 2f * constraints.c1), 3f * constraints.c1, -value);
-				if(cubicSolution == -1) //TODO (check if actually happen)
-					cubicSolution = lastCubicSolution;
-				else
-					lastCubicSolution = cubicSolution;
-				return Interpolator.linear(a, b, Interpolator.bezier(cubicSolution, 0f, constraints.c2, constraints.c4, 1f));
+				return sampleBezier(value);
+			case LINEAR:
+			default:
+				return value;
+		}
+	}
+
+	/**
+	 * Updates the data precomputed from the type and the constraints of this curve. Called
+	 * automatically by {@link #setType(CurveType)} and {@link Constraints#set}, it only has to
+	 * be called after modifying the fields of {@link #constraints} directly.
+	 */
+	public void compile() {
+		if(type == CurveType.BEZIER)
+			bezierTable = buildBezierTable();
+		else
+			bezierTable = null;
+
+		switch(type) {
+			case QUADRATIC:
+				polynomial = buildPolynomial(0f, constraints.c1, 1f);
+				break;
+			case CUBIC:
+				polynomial = buildPolynomial(0f, constraints.c1, constraints.c2, 1f);
+				break;
+			case QUARTIC:
+				polynomial = buildPolynomial(0f, constraints.c1, constraints.c2, constraints.c3, 1f);
+				break;
+			case QUINTIC:
+				polynomial = buildPolynomial(0f, constraints.c1, constraints.c2, constraints.c3,
+						constraints.c4, 1f);
+				break;
 			default:
-				return Interpolator.linear(a, b, value);
+				polynomial = null;
 		}
 	}
 
+	/**
+	 * Converts a bezier curve of the given control points to the coefficients of its polynomial
+	 * form. The first control point has to be 0, making the constant coefficient 0.
+	 *
+	 * @param points control points of the bezier curve
+	 * @return coefficients of t, t^2, ..., t^n where n is the degree of the curve
+	 */
+	private static float[] buildPolynomial(float... points) {
+		int degree = points.length - 1;
+		float[] coefficients = new float[degree];
+
+		for(int k = 1; k <= degree; k++) {
+			float sum = 0f;
+			for(int i = 0; i <= k; i++)
+				sum += ((k - i) % 2 == 0 ? 1 : -1) * binomial(k, i) * points[i];
+			coefficients[k - 1] = binomial(degree, k) * sum;
+		}
+
+		return coefficients;
+	}
+
+	private static int binomial(int n, int k) {
+		int result = 1;
+		for(int i = 1; i <= k; i++)
+			result = result * (n - k + i) / i;
+		return result;
+	}
+
+	private float sampleBezier(float value) {
+		float[] table = bezierTable;
+		float position = MathUtils.clamp(value, 0f, 1f) * (table.length - 1);
+		int index = (int)position;
+
+		if(index >= table.length - 1)
+			return table[table.length - 1];
+
+		return Interpolator.linear(table[index], table[index + 1], position - index);
+	}
+
+	/**
+	 * Samples the bezier curve at regular intervals of its input, doubling the amount of samples
+	 * until interpolating linearly between them is within {@link #bezierTolerance} of the curve.
+	 *
+	 * @return lookup table of the curve
+	 */
+	private float[] buildBezierTable() {
+		float[] table = null;
+
+		for(int samples = 17; samples <= MAX_BEZIER_SAMPLES; samples = samples * 2 - 1) {
+			table = new float[samples];
+
+			for(int i = 0; i < samples; i++)
+				table[i] = solveBezier(i / (samples - 1f));
+
+			float maxError = 0f;
+			for(int i = 0; i < samples - 1; i++) {
+				float expected = solveBezier((i + 0.5f) / (samples - 1f));
+				float actual = (table[i] + table[i + 1]) / 2f;
+				maxError = Math.max(maxError, Math.abs(expected - actual));
+			}
+
+			if(maxError <= bezierTolerance)
+				break;
+		}
+
+		return table;
+	}
+
+	/**
+	 * Evaluates the bezier curve for the specified input by finding the parameter of the curve
+	 * at which its x coordinate equals the input
+	 *
+	 * @param x input of the curve, between 0.0 and 1.0
+	 * @return output of the curve
+	 */
+	private float solveBezier(float x) {
+		float low = 0f, high = 1f;
+
+		for(int i = 0; i < 32; i++) {
+			float mid = (low + high) / 2f;
+
+			if(Interpolator.bezier(mid, 0f, constraints.c1, constraints.c3, 1f) < x)
+				low = mid;
+			else
+				high = mid;
+		}
+
+		return Interpolator.bezier((low + high) / 2f, 0f, constraints.c2, constraints.c4, 1f);
+	}
+
 	/**
 	 * Returns the type of this curve.
 	 *
@@ -108,6 +264,28 @@ public class Curve {
 	 */
 	public void setType(CurveType type) {
 		this.type = type;
+		compile();
+	}
+
+	/**
+	 * Returns the maximum error of the lookup table used to evaluate this curve when it is of
+	 * type {@link CurveType#BEZIER}.
+	 *
+	 * @return the maximum error
+	 */
+	public float getBezierTolerance() {
+		return bezierTolerance;
+	}
+
+	/**
+	 * Sets the maximum error of the lookup table used to evaluate this curve when it is of type
+	 * {@link CurveType#BEZIER}. Smaller values make the table bigger.
+	 *
+	 * @param bezierTolerance the maximum error
+	 */
+	public void setBezierTolerance(float bezierTolerance) {
+		this.bezierTolerance = bezierTolerance;
+		compile();
 	}
 
 
@@ -129,6 +307,11 @@ public class Curve {
 	public static class Constraints {
 		public float c1, c2, c3, c4;
 
+		/**
+		 * Curve these constraints belong to, recompiled when they are set
+		 */
+		private Curve curve;
+
 		public Constraints(float c1, float c2, float c3, float c4) {
 			this.set(c1, c2, c3, c4);
 		}
@@ -138,6 +321,9 @@ public class Curve {
 			this.c2 = c2;
 			this.c3 = c3;
 			this.c4 = c4;
+
+			if(curve != null)
+				curve.compile();
 		}
 	}
 }
@@ -17,6 +17,28 @@ public class Interpolator {
 		return a + (b - a) * t;
 	}
 
+	/**
+	 * Interpolates linearly between two angles, going around in the direction of the given spin
+	 *
+	 * @param a the start angle
+	 * @param b the end angle
+	 * @param t the weight
+	 * @param spin 1 for counterclockwise, -1 for clockwise and 0 to stay at the start angle
+	 * @return interpolated angle
+	 */
+	public static float spinAngle(float a, float b, float t, int spin) {
+		if(spin > 0) {
+			if(b - a < 0)
+				b += 360;
+		} else if(spin < 0) {
+			if(b - a > 0)
+				b -= 360;
+		} else
+			return a;
+
+		return linear(a, b, t);
+	}
+
 	public static float linearAngle(float a, float b, float t) {
 		return a + (((((b - a) % 360) + 540) % 360) - 180) * t;
 	}
@@ -129,9 +151,6 @@ public class Interpolator {
 				return result;
 		}
 
-		//DEBUG
-		System.out.println("WARNING: No cubic solution found for " + a + ", " + b + ", " + c + ", "
-				+ d);
 		return -1;
 	}
 
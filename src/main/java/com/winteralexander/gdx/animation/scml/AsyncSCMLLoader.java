@@ -0,0 +1,72 @@
+package com.winteralexander.gdx.animation.scml;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.AsynchronousAssetLoader;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.Array;
+import com.winteralexander.gdx.animation.scml.SCMLLoader.SCMLProjectParameters;
+
+/**
+ * Loads a SCML file (Spriter format) into LibGDX's AssetManager without blocking the render
+ * thread. The file is parsed and its animations are built on the loading thread of the
+ * AssetManager, only the texture regions of the assets are set on the render thread:
+ * <pre>
+ * manager.setLoader(SCMLProject.class, new AsyncSCMLLoader(resolver));
+ * </pre>
+ * <p>
+ * The bounds of the animations are computed with the sizes of the images declared in the SCML
+ * file, since the regions aren't set yet.
+ * <p>
+ * Created on 2026-10-18.
+ *
+ * @author Alexander Winter
+ */
+public class AsyncSCMLLoader extends AsynchronousAssetLoader<SCMLProject,
+		SCMLProjectParameters> {
+	private final SCMLReader reader;
+	private SCMLProject project;
+
+	public AsyncSCMLLoader(FileHandleResolver resolver) {
+		this(resolver, new SCMLReader());
+	}
+
+	public AsyncSCMLLoader(FileHandleResolver resolver, SCMLReader reader) {
+		super(resolver);
+		this.reader = reader;
+	}
+
+	@Override
+	public void loadAsync(AssetManager manager, String fileName, FileHandle file,
+	                      SCMLProjectParameters params) {
+		project = reader.load(file.read(), null);
+	}
+
+	@Override
+	public SCMLProject loadSync(AssetManager manager, String fileName, FileHandle file,
+	                            SCMLProjectParameters params) {
+		SCMLProject project = this.project;
+		this.project = null;
+
+		project.setRegions(manager.get(params.textureAtlasName, TextureAtlas.class));
+		return project;
+	}
+
+	@Override
+	public void unloadAsync(AssetManager manager, String fileName, FileHandle file,
+	                        SCMLProjectParameters params) {
+		project = null;
+	}
+
+	@Override
+	public Array<AssetDescriptor> getDependencies(String fileName, FileHandle file,
+	                                              SCMLProjectParameters params) {
+		AssetDescriptor<TextureAtlas> descriptor = new AssetDescriptor<>(params.textureAtlasName,
+				TextureAtlas.class);
+		Array<AssetDescriptor> array = new Array<>();
+		array.add(descriptor);
+		return array;
+	}
+}
@@ -0,0 +1,62 @@
+package com.winteralexander.gdx.animation.scml;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Runs an action for every index of a range on a {@link ForkJoinPool}, or sequentially without
+ * pool. Used to load and prepare the animations of a project concurrently.
+ * <p>
+ * Created on 2026-10-18.
+ *
+ * @author Alexander Winter
+ */
+final class ParallelLoop extends RecursiveAction {
+	private static final long serialVersionUID = 1L;
+
+	private final IntConsumer action;
+	private final int start, end;
+
+	private ParallelLoop(IntConsumer action, int start, int end) {
+		this.action = action;
+		this.start = start;
+		this.end = end;
+	}
+
+	/**
+	 * Runs the given action for every index from 0 to count, concurrently on the given pool if
+	 * any, and returns once it ran for all of them
+	 *
+	 * @param pool pool to run on, null to run on the calling thread
+	 * @param count amount of indexes
+	 * @param action action to run for each index
+	 */
+	static void run(ForkJoinPool pool, int count, IntConsumer action) {
+		if(pool == null || count < 2) {
+			for(int i = 0; i < count; i++)
+				action.accept(i);
+			return;
+		}
+
+		ParallelLoop loop = new ParallelLoop(action, 0, count);
+
+		// nested loops are forked in the pool they run in
+		if(ForkJoinTask.getPool() == pool)
+			loop.invoke();
+		else
+			pool.invoke(loop);
+	}
+
+	@Override
+	protected void compute() {
+		if(end - start == 1) {
+			action.accept(start);
+			return;
+		}
+
+		int middle = (start + end) >>> 1;
+		invokeAll(new ParallelLoop(action, start, middle), new ParallelLoop(action, middle, end));
+	}
+}
@@ -32,8 +32,8 @@ public class SCMLLoader extends SynchronousAssetLoader<SCMLProject, SCMLProjectP
 	@Override
 	public SCMLProject load(AssetManager assetManager, String fileName, FileHandle file,
 	                        SCMLProjectParameters params) {
-		reader.setAtlas(assetManager.get(params.textureAtlasName));
-		return reader.load(file.read());
+		return reader.load(file.read(),
+				assetManager.get(params.textureAtlasName, TextureAtlas.class));
 	}
 
 	@Override
@@ -1,12 +1,17 @@
 package com.winteralexander.gdx.animation.scml;
 
 
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.IntMap;
+import com.winteralexander.gdx.animation.AnimationData;
 import com.winteralexander.gdx.animation.Entity;
+import com.winteralexander.gdx.animation.EntityData;
 import com.winteralexander.gdx.animation.EntityNotFoundException;
 import com.winteralexander.gdx.animation.drawable.TextureSpriteDrawable;
 
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * Represents a .SCML project file for Spriter.
  *
@@ -14,10 +19,12 @@ import com.winteralexander.gdx.animation.drawable.TextureSpriteDrawable;
  */
 public class SCMLProject {
 	private final IntMap<TextureSpriteDrawable> assets;
-	private final Array<Entity> entities;
+	private final IntMap<String> assetNames;
+	private final Array<EntityData> entities;
 
 	public SCMLProject() {
 		this.assets = new IntMap<>();
+		this.assetNames = new IntMap<>();
 		this.entities = new Array<>();
 	}
 
@@ -26,16 +33,28 @@ public class SCMLProject {
 	}
 
 	/**
-	 * Returns an copy of the requested SpriterEntity
+	 * Returns a new instance of the requested SpriterEntity. The keyframes are shared with the
+	 * other instances of the entity, only the playback state is created.
 	 *
 	 * @param name the name of the entity
 	 * @return the entity with the given name
 	 * @throws EntityNotFoundException if the spriter entity could not be found
 	 */
 	public Entity getEntity(String name) {
-		for(Entity entity : entities)
+		return new Entity(getEntityData(name));
+	}
+
+	/**
+	 * Returns the shared data of the requested SpriterEntity
+	 *
+	 * @param name the name of the entity
+	 * @return the data of the entity with the given name
+	 * @throws EntityNotFoundException if the spriter entity could not be found
+	 */
+	public EntityData getEntityData(String name) {
+		for(EntityData entity : entities)
 			if(entity.getName().equals(name))
-				return new Entity(entity);
+				return entity;
 
 		throw new EntityNotFoundException(name);
 	}
@@ -44,11 +63,107 @@ public class SCMLProject {
 		assets.put(getAssetKey(folderID, fileID), asset);
 	}
 
+	/**
+	 * Adds an asset to this project along with the name of its texture region, which is needed
+	 * to save the project in another format
+	 *
+	 * @param folderID id of the folder of the asset
+	 * @param fileID id of the file of the asset
+	 * @param name name of the texture region of the asset
+	 * @param asset the asset
+	 */
+	public void putAsset(int folderID, int fileID, String name, TextureSpriteDrawable asset) {
+		putAsset(folderID, fileID, asset);
+		assetNames.put(getAssetKey(folderID, fileID), name);
+	}
+
 	public TextureSpriteDrawable getAsset(int folderID, int fileID) {
 		return assets.get(getAssetKey(folderID, fileID));
 	}
 
-	public Array<Entity> getSourceEntities() {
+	/**
+	 * @param assetKey key of the asset, see {@link #getAssetKey(int, int)}
+	 * @return name of the texture region of the asset, null if unknown
+	 */
+	public String getAssetName(int assetKey) {
+		return assetNames.get(assetKey);
+	}
+
+	/**
+	 * @return assets of this project by asset key, see {@link #getAssetKey(int, int)}
+	 */
+	public IntMap<TextureSpriteDrawable> getAssets() {
+		return assets;
+	}
+
+	/**
+	 * Sets the texture region of every asset of this project to the region of the same name in
+	 * the given atlas. Used to bind a project loaded without atlas, such as one loaded off the
+	 * render thread.
+	 *
+	 * @param atlas atlas of the project
+	 */
+	public void setRegions(TextureAtlas atlas) {
+		for(IntMap.Entry<TextureSpriteDrawable> asset : assets)
+			asset.value.setRegion(atlas.findRegion(assetNames.get(asset.key)));
+	}
+
+	/**
+	 * Bakes every animation of this project at the given rate, using all available cores
+	 *
+	 * @param sampleRate amount of samples per second
+	 * @see AnimationData#bake(float)
+	 */
+	public void bake(float sampleRate) {
+		bake(sampleRate, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Bakes every animation of this project at the given rate, concurrently on the given pool
+	 *
+	 * @param sampleRate amount of samples per second
+	 * @param pool pool to bake on, null to bake on the calling thread
+	 * @see AnimationData#bake(float)
+	 */
+	public void bake(float sampleRate, ForkJoinPool pool) {
+		Array<AnimationData> animations = getAnimations();
+		ParallelLoop.run(pool, animations.size, i -> animations.get(i).bake(sampleRate));
+	}
+
+	/**
+	 * Computes the bounding boxes of every animation of this project, using all available cores
+	 *
+	 * @param sampleRate amount of samples per second
+	 * @param padding padding added on each side of the boxes, relative to their size
+	 * @see AnimationData#computeBounds(float, float)
+	 */
+	public void computeBounds(float sampleRate, float padding) {
+		computeBounds(sampleRate, padding, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Computes the bounding boxes of every animation of this project, concurrently on the given
+	 * pool
+	 *
+	 * @param sampleRate amount of samples per second
+	 * @param padding padding added on each side of the boxes, relative to their size
+	 * @param pool pool to compute on, null to compute on the calling thread
+	 * @see AnimationData#computeBounds(float, float)
+	 */
+	public void computeBounds(float sampleRate, float padding, ForkJoinPool pool) {
+		Array<AnimationData> animations = getAnimations();
+		ParallelLoop.run(pool, animations.size,
+				i -> animations.get(i).computeBounds(sampleRate, padding));
+	}
+
+	private Array<AnimationData> getAnimations() {
+		Array<AnimationData> animations = new Array<>();
+		for(EntityData entity : entities)
+			animations.addAll(entity.getAnimations());
+		return animations;
+	}
+
+	public Array<EntityData> getSourceEntities() {
 		return entities;
 	}
 }
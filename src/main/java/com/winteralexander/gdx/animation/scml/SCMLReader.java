@@ -4,7 +4,6 @@ import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.ObjectMap;
 import com.badlogic.gdx.utils.XmlReader;
 import com.badlogic.gdx.utils.XmlReader.Element;
 import com.winteralexander.gdx.animation.*;
@@ -13,20 +12,27 @@ import com.winteralexander.gdx.animation.drawable.TextureSpriteDrawable;
 
 import java.io.InputStream;
 import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * File parser for .SCML files (spriter format)
+ * <p>
+ * The state of a load is not kept in the reader, so the same reader can load many files
+ * concurrently, as long as its settings aren't changed during a load.
+ * <p>
+ * The entities and animations of a project are built concurrently (see
+ * {@link #setPool(ForkJoinPool)}), the protected load methods must then be thread-safe when
+ * overridden.
  *
  * @author Alexander Winter
  */
 public class SCMLReader {
-	/**
-	 * Since zIndex are for timeline but stored in a different section of the xml, they need to be
-	 * temporarily stored while loading
-	 */
-	private final ObjectMap<ObjectRef, Integer> zIndexTmpMap = new ObjectMap<>();
-	protected SCMLProject currentProject;
 	private TextureAtlas atlas;
+	private float bezierTolerance = Curve.DEFAULT_BEZIER_TOLERANCE;
+	private float bakeSampleRate = 0f;
+	private float boundsSampleRate = 0f;
+	private boolean streaming = false;
+	private ForkJoinPool pool = ForkJoinPool.commonPool();
 
 	/**
 	 * Creates a new SCML reader
@@ -40,8 +46,26 @@ public class SCMLReader {
 	 * @return the built data
 	 */
 	public SCMLProject load(String xml) {
+		return load(xml, atlas);
+	}
+
+	/**
+	 * Parses the SCML object save in the given xml string and returns the build data object.
+	 *
+	 * @param xml the xml string
+	 * @param atlas atlas the texture regions of the assets are found in, instead of the one of
+	 * this reader
+	 * @return the built data
+	 */
+	public SCMLProject load(String xml, TextureAtlas atlas) {
+		if(streaming) {
+			SCMLStreamParser parser = new SCMLStreamParser(this, atlas);
+			parser.parse(xml);
+			return prepare(parser.getProject());
+		}
+
 		XmlReader reader = new XmlReader();
-		return load(reader.parse(xml));
+		return load(reader.parse(xml), atlas);
 	}
 
 	/**
@@ -51,8 +75,26 @@ public class SCMLReader {
 	 * @return the built data
 	 */
 	public SCMLProject load(InputStream stream) {
+		return load(stream, atlas);
+	}
+
+	/**
+	 * Parses the SCML objects saved in the given stream and returns the built data object.
+	 *
+	 * @param stream the stream from the SCML file
+	 * @param atlas atlas the texture regions of the assets are found in, instead of the one of
+	 * this reader
+	 * @return the built data
+	 */
+	public SCMLProject load(InputStream stream, TextureAtlas atlas) {
+		if(streaming) {
+			SCMLStreamParser parser = new SCMLStreamParser(this, atlas);
+			parser.parse(stream);
+			return prepare(parser.getProject());
+		}
+
 		XmlReader reader = new XmlReader();
-		return load(reader.parse(stream));
+		return load(reader.parse(stream), atlas);
 	}
 
 	/**
@@ -62,62 +104,119 @@ public class SCMLReader {
 	 * @return the project file
 	 */
 	public SCMLProject load(Element root) {
-		this.currentProject = new SCMLProject();
+		return load(root, atlas);
+	}
 
-		loadAssets(root.getChildrenByName("folder"));
-		loadEntities(root.getChildrenByName("entity"));
+	/**
+	 * Reads the data from the given root element, i.e. the spriter_data node.
+	 *
+	 * @param root XML root of the SCML file
+	 * @param atlas atlas the texture regions of the assets are found in, instead of the one of
+	 * this reader
+	 * @return the project file
+	 */
+	public SCMLProject load(Element root, TextureAtlas atlas) {
+		SCMLProject project = new SCMLProject();
+
+		loadAssets(project, atlas, root.getChildrenByName("folder"));
+		loadEntities(project, root.getChildrenByName("entity"));
 
-		return currentProject;
+		return prepare(project);
 	}
 
 	/**
-	 * Iterates through the given folders and adds them to the current {@link SCMLProject} object.
+	 * Bakes the animations of the given parsed project and computes their bounds, as configured
 	 *
-	 * @param folders a list of folders to load
+	 * @param project project to prepare
+	 * @return the given project
 	 */
-	protected void loadAssets(Array<Element> folders) {
-		for(Element folder : folders) {
-			for(Element file : folder.getChildrenByName("file")) {
-				String name = file.get("name");
+	private SCMLProject prepare(SCMLProject project) {
+		if(bakeSampleRate > 0f)
+			project.bake(bakeSampleRate, pool);
 
-				String[] parts = name.split("/");
-				name = parts[parts.length - 1].replace(".png", "");
+		if(boundsSampleRate > 0f)
+			project.computeBounds(boundsSampleRate, AnimationBounds.DEFAULT_PADDING, pool);
 
-				TextureSpriteDrawable asset;
+		return project;
+	}
 
-				TextureRegion region = atlas.findRegion(name);
+	/**
+	 * Iterates through the given folders and adds them to the given {@link SCMLProject} object.
+	 *
+	 * @param project project being loaded
+	 * @param atlas atlas the texture regions of the assets are found in, can be null
+	 * @param folders a list of folders to load
+	 */
+	protected void loadAssets(SCMLProject project, TextureAtlas atlas, Array<Element> folders) {
+		for(Element folder : folders) {
+			for(Element file : folder.getChildrenByName("file"))
+				loadAsset(project, atlas, folder.getInt("id"), file.getInt("id"),
+						file.get("name"), file.getFloat("pivot_x", 0f), file.getFloat("pivot_y", 1f),
+						file.getFloat("width", 0f), file.getFloat("height", 0f));
+		}
+	}
 
-				asset = new TextureSpriteDrawable(region, file.getFloat("pivot_x", 0f),
-						file.getFloat("pivot_y", 1f));
+	/**
+	 * Creates the asset of the given file and adds it to the given project. Assets without
+	 * texture region have the size of the file until a region is set.
+	 *
+	 * @param project project to add the asset to
+	 * @param atlas atlas the texture region of the asset is found in, can be null
+	 * @param folderId id of the folder of the file
+	 * @param fileId id of the file
+	 * @param path path of the image of the file
+	 * @param pivotX horizontal pivot of the asset
+	 * @param pivotY vertical pivot of the asset
+	 * @param width width of the image of the file
+	 * @param height height of the image of the file
+	 */
+	void loadAsset(SCMLProject project, TextureAtlas atlas, int folderId, int fileId, String path,
+	               float pivotX, float pivotY, float width, float height) {
+		String[] parts = path.split("/");
+		String name = parts[parts.length - 1].replace(".png", "");
 
-				currentProject.putAsset(folder.getInt("id"), file.getInt("id"), asset);
-			}
-		}
+		TextureRegion region = atlas != null ? atlas.findRegion(name) : null;
+
+		project.putAsset(folderId, fileId, name, region != null
+				? new TextureSpriteDrawable(region, pivotX, pivotY)
+				: new TextureSpriteDrawable(null, pivotX, pivotY, width, height));
 	}
 
 	/**
-	 * Iterates through the given entities and adds them to the current {@link SCMLProject} object.
+	 * Iterates through the given entities and adds them to the given {@link SCMLProject} object.
 	 *
+	 * @param project project being loaded
 	 * @param entities a list of entities to load
 	 */
-	protected void loadEntities(Array<Element> entities) {
-		for(Element xmlElement : entities) {
-			Entity entity = new Entity(xmlElement.get("name"));
+	protected void loadEntities(SCMLProject project, Array<Element> entities) {
+		EntityData[] loaded = new EntityData[entities.size];
 
-			loadAnimations(xmlElement.getChildrenByName("animation"), entity);
+		ParallelLoop.run(pool, entities.size, i -> {
+			Element xmlElement = entities.get(i);
+			Array<Element> xmlAnimations = xmlElement.getChildrenByName("animation");
+			Array<AnimationData> animations = new Array<>(xmlAnimations.size);
 
-			currentProject.getSourceEntities().add(entity);
-		}
+			loadAnimations(project, xmlAnimations, animations);
+
+			loaded[i] = new EntityData(xmlElement.get("name"), animations);
+		});
+
+		project.getSourceEntities().addAll(loaded);
 	}
 
 	/**
-	 * Iterates through the given animations and adds them to the given {@link Entity} object.
+	 * Iterates through the given animations and adds their data to the given array.
 	 *
+	 * @param project project being loaded
 	 * @param animations a list of animations to load
-	 * @param entity the entity containing the animations maps
+	 * @param entityAnimations the animations of the entity being loaded
 	 */
-	protected void loadAnimations(Array<Element> animations, Entity entity) {
-		for(Element xmlElement : animations) {
+	protected void loadAnimations(SCMLProject project, Array<Element> animations,
+	                              Array<AnimationData> entityAnimations) {
+		AnimationData[] loaded = new AnimationData[animations.size];
+
+		ParallelLoop.run(pool, animations.size, i -> {
+			Element xmlElement = animations.get(i);
 			Array<Element> xmlTimelines = xmlElement.getChildrenByName("timeline");
 			Element xmlMainline = xmlElement.getChildByName("mainline");
 
@@ -126,17 +225,17 @@ public class SCMLReader {
 			Mainline mainline = new Mainline(mainlineKeys.size);
 			Array<Timeline> timelines = new Array<>(xmlTimelines.size);
 
-			loadTimelines(mainlineKeys, xmlTimelines, mainline, timelines);
+			loadTimelines(project, mainlineKeys, xmlTimelines, mainline, timelines);
 
 			//in spriter, you can place a key both at 0 and at the length for a total possible
 			// keys of length + 1,
 			//to handle this, we assume the actual length is +1 the one displayed in spriter
-			Animation animation = new Animation(xmlElement.get("name"),
+			loaded[i] = new AnimationData(xmlElement.get("name"),
 					xmlElement.getInt("length") + 1, xmlElement.getBoolean("looping", true),
 					mainline, timelines);
+		});
 
-			entity.getAnimations().add(animation);
-		}
+		entityAnimations.addAll(loaded);
 	}
 
 	/**
@@ -144,22 +243,20 @@ public class SCMLReader {
 	 * about
 	 * the graph and zIndexes
 	 *
+	 * @param project project being loaded
 	 * @param xmlMainlineKeys a list of mainline keys
 	 * @param mainline the mainline
 	 */
-	protected void loadTimelines(Array<Element> xmlMainlineKeys, Array<Element> xmlTimelines,
+	protected void loadTimelines(SCMLProject project, Array<Element> xmlMainlineKeys,
+	                             Array<Element> xmlTimelines,
 	                             Mainline mainline, Array<Timeline> timelines) {
-		zIndexTmpMap.clear();
+		ZIndexMap zIndices = new ZIndexMap();
 
 		for(Element xmlElement : xmlMainlineKeys) {
 			Array<Element> xmlObjectRefs = xmlElement.getChildrenByName("object_ref");
 			Array<Element> xmlBoneRefs = xmlElement.getChildrenByName("bone_ref");
 
-			Curve curve = new Curve(
-					Curve.CurveType.valueOf(xmlElement.get("curve_type", "linear")
-							.toUpperCase(Locale.ENGLISH)));
-			curve.constraints.set(xmlElement.getFloat("c1", 0f), xmlElement.getFloat("c2", 0f),
-					xmlElement.getFloat("c3", 0f), xmlElement.getFloat("c4", 0f));
+			Curve curve = loadCurve(xmlElement);
 
 			Array<ObjectRef> objectRefs = new Array<>(xmlBoneRefs.size + xmlObjectRefs.size);
 
@@ -181,7 +278,7 @@ public class SCMLReader {
 
 				objectRefs.add(ref);
 
-				zIndexTmpMap.put(ref, xmlObjectRef.getInt("z_index", 0));
+				zIndices.put(timeline, ref.key, xmlObjectRef.getInt("z_index", 0));
 			}
 
 
@@ -193,8 +290,8 @@ public class SCMLReader {
 			int id = xmlElement.getInt("id");
 			String name = xmlElement.get("name");
 
-			Array<TimelineKey> timelineKeys = loadTimelineKeys(id, xmlElement.getChildrenByName(
-					"key"));
+			Array<TimelineKey> timelineKeys = loadTimelineKeys(project, zIndices, id,
+					xmlElement.getChildrenByName("key"));
 
 			timelines.add(new Timeline(id, name, timelineKeys));
 		}
@@ -203,19 +300,18 @@ public class SCMLReader {
 	/**
 	 * Iterates through the given timeline keys
 	 *
+	 * @param project project being loaded
+	 * @param zIndices z-indexes of the sprite keys, read from the mainline
 	 * @param timelineId id of the parent timeline
 	 * @param keys a list if timeline keys as xml
 	 * @return array of timeline keys
 	 */
-	protected Array<TimelineKey> loadTimelineKeys(int timelineId, Array<Element> keys) {
+	protected Array<TimelineKey> loadTimelineKeys(SCMLProject project, ZIndexMap zIndices,
+	                                              int timelineId, Array<Element> keys) {
 		Array<TimelineKey> timelineKeys = new Array<>(keys.size);
 
 		for(Element xmlKey : keys) {
-			Curve curve = new Curve(
-					Curve.CurveType.valueOf(xmlKey.get("curve_type", "linear")
-							.toUpperCase(Locale.ENGLISH)));
-			curve.constraints.set(xmlKey.getFloat("c1", 0f), xmlKey.getFloat("c2", 0f),
-					xmlKey.getFloat("c3", 0f), xmlKey.getFloat("c4", 0f));
+			Curve curve = loadCurve(xmlKey);
 
 			int keyId = xmlKey.getInt("id", -1);
 
@@ -234,10 +330,10 @@ public class SCMLReader {
 			float alpha = obj.getFloat("a", 1f);
 
 			if(type.equalsIgnoreCase("object") || type.equalsIgnoreCase("sprite")) {
-				TextureSpriteDrawable asset = currentProject.getAsset(obj.getInt("folder"),
+				TextureSpriteDrawable asset = project.getAsset(obj.getInt("folder"),
 						obj.getInt("file")); //corresponding sprite
 
-				int zIndex = zIndexTmpMap.get(new ObjectRef(timelineId, keyId, null), 0);
+				int zIndex = zIndices.get(timelineId, keyId, 0);
 				key.setObject(new Sprite(asset, position, scale, angle, alpha, zIndex));
 			} else if(type.equalsIgnoreCase("bone"))
 				key.setObject(new AnimatedPart(position, scale, angle, alpha));
@@ -249,12 +345,126 @@ public class SCMLReader {
 		return timelineKeys;
 	}
 
+	/**
+	 * Reads the curve of the given mainline or timeline key
+	 *
+	 * @param xmlKey key to read the curve of
+	 * @return the curve
+	 */
+	protected Curve loadCurve(Element xmlKey) {
+		return loadCurve(xmlKey.get("curve_type", "linear"),
+				xmlKey.getFloat("c1", 0f), xmlKey.getFloat("c2", 0f),
+				xmlKey.getFloat("c3", 0f), xmlKey.getFloat("c4", 0f));
+	}
+
+	/**
+	 * Creates a curve from the attributes of a mainline or timeline key
+	 *
+	 * @param type name of the type of the curve, as in the SCML file
+	 * @param c1 first parameter of the curve
+	 * @param c2 second parameter of the curve
+	 * @param c3 third parameter of the curve
+	 * @param c4 fourth parameter of the curve
+	 * @return the curve
+	 */
+	Curve loadCurve(String type, float c1, float c2, float c3, float c4) {
+		Curve curve = new Curve(Curve.CurveType.valueOf(type.toUpperCase(Locale.ENGLISH)),
+				c1, c2, c3, c4);
+
+		if(bezierTolerance != Curve.DEFAULT_BEZIER_TOLERANCE)
+			curve.setBezierTolerance(bezierTolerance);
+
+		return curve;
+	}
+
+	public float getBezierTolerance() {
+		return bezierTolerance;
+	}
+
+	/**
+	 * Sets the maximum error of the lookup tables of the bezier curves loaded by this reader
+	 *
+	 * @param bezierTolerance the maximum error
+	 * @see Curve#setBezierTolerance(float)
+	 */
+	public void setBezierTolerance(float bezierTolerance) {
+		this.bezierTolerance = bezierTolerance;
+	}
+
+	public float getBakeSampleRate() {
+		return bakeSampleRate;
+	}
+
+	/**
+	 * Sets the rate at which the animations loaded by this reader are baked, 0 to not bake them
+	 *
+	 * @param bakeSampleRate amount of samples per second
+	 * @see SCMLProject#bake(float)
+	 */
+	public void setBakeSampleRate(float bakeSampleRate) {
+		this.bakeSampleRate = bakeSampleRate;
+	}
+
+	public float getBoundsSampleRate() {
+		return boundsSampleRate;
+	}
+
+	/**
+	 * Sets the rate at which the animations loaded by this reader are sampled to compute their
+	 * bounding boxes, 0 (the default) to not compute them. Animations without bounding boxes are
+	 * never culled. The boxes are sampled and may miss fast motion, see {@link AnimationBounds}.
+	 *
+	 * @param boundsSampleRate amount of samples per second
+	 * @see SCMLProject#computeBounds(float, float)
+	 */
+	public void setBoundsSampleRate(float boundsSampleRate) {
+		this.boundsSampleRate = boundsSampleRate;
+	}
+
+	public ForkJoinPool getPool() {
+		return pool;
+	}
+
+	/**
+	 * Sets the pool the entities and animations of the projects are built on once their SCML
+	 * file is parsed, then baked and bounded on. They are built concurrently but always keep the
+	 * order of the file. Files loaded in streaming mode are built as they are parsed, on the
+	 * loading thread.
+	 *
+	 * @param pool pool to build on, null to do everything on the loading thread
+	 */
+	public void setPool(ForkJoinPool pool) {
+		this.pool = pool;
+	}
+
+	public boolean isStreaming() {
+		return streaming;
+	}
+
+	/**
+	 * Sets whether SCML strings and streams are parsed in a single streaming pass instead of
+	 * being read into a tree of {@link Element}s first. Streaming is faster and uses much less
+	 * memory on large files, but doesn't go through the protected load methods of this reader,
+	 * which can then not be overridden to customize the loading.
+	 *
+	 * @param streaming true to parse without building a tree of elements, otherwise false
+	 */
+	public void setStreaming(boolean streaming) {
+		this.streaming = streaming;
+	}
+
 	public TextureAtlas getAtlas() {
 		return atlas;
 	}
 
+	/**
+	 * Sets the atlas the texture regions of the assets are found in. Without atlas, the assets
+	 * have no texture region, which is enough to convert the project to another format, or they
+	 * can be set later with {@link SCMLProject#setRegions(TextureAtlas)}.
+	 *
+	 * @param atlas atlas of the project
+	 */
 	public void setAtlas(TextureAtlas atlas) {
 		this.atlas = atlas;
 	}
 }
-
@@ -0,0 +1,325 @@
+package com.winteralexander.gdx.animation.scml;
+
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.XmlReader;
+import com.winteralexander.gdx.animation.*;
+import com.winteralexander.gdx.animation.drawable.TextureSpriteDrawable;
+import com.winteralexander.gdx.animation.math.Curve;
+
+/**
+ * Builds a {@link SCMLProject} in a single pass over an SCML file, as its elements are parsed,
+ * without building a tree of {@link XmlReader.Element}s. Produces the same project as the
+ * element based loading of {@link SCMLReader}, with the settings of that reader.
+ * <p>
+ * Elements are only known to be complete once their first child or their end is reached, the
+ * attributes of the last opened element are kept until then.
+ * <p>
+ * Created on 2026-10-18.
+ *
+ * @author Alexander Winter
+ */
+class SCMLStreamParser extends XmlReader {
+	private final SCMLReader reader;
+	private final TextureAtlas atlas;
+	private final SCMLProject project = new SCMLProject();
+
+	// names of the open elements, from the root
+	private final Array<String> path = new Array<>();
+	private final ObjectMap<String, String> attributes = new ObjectMap<>();
+	private boolean pending = false;
+
+	private int folderId;
+
+	private String entityName;
+	private Array<AnimationData> animations;
+	private boolean inEntity = false;
+
+	private String animationName;
+	private int animationLength;
+	private boolean looping;
+	private Mainline mainline;
+	private Array<Timeline> timelines;
+	private boolean inAnimation = false;
+
+	private final ZIndexMap zIndices = new ZIndexMap();
+	// timeline id and key id of every sprite of the animation, to set their z-index once the
+	// whole mainline is known
+	private final IntArray spriteKeys = new IntArray();
+	private final Array<Sprite> sprites = new Array<>();
+
+	private boolean inMainline = false;
+	private int mainlineKeyTime;
+	private Curve mainlineKeyCurve;
+	// timeline, key and parent of the bone refs, then of the object refs with their z-index
+	private final IntArray boneRefs = new IntArray(), objectRefs = new IntArray();
+	private boolean inMainlineKey = false;
+
+	private int timelineId;
+	private String timelineName;
+	private Array<TimelineKey> timelineKeys;
+	private boolean inTimeline = false;
+
+	private TimelineKey timelineKey;
+	private int timelineKeyId;
+	private boolean inTimelineKey = false;
+
+	SCMLStreamParser(SCMLReader reader, TextureAtlas atlas) {
+		this.reader = reader;
+		this.atlas = atlas;
+	}
+
+	@Override
+	protected void open(String name) {
+		begin();
+		path.add(name);
+		attributes.clear();
+		pending = true;
+	}
+
+	@Override
+	protected void attribute(String name, String value) {
+		attributes.put(name, value);
+	}
+
+	@Override
+	protected void text(String text) {}
+
+	@Override
+	protected void close() {
+		begin();
+		end(path.peek(), path.size);
+		path.pop();
+	}
+
+	/**
+	 * Handles the last opened element if its attributes weren't handled yet
+	 */
+	private void begin() {
+		if(!pending)
+			return;
+
+		pending = false;
+		String name = path.peek();
+
+		switch(path.size) {
+			case 2:
+				if(name.equals("folder"))
+					folderId = getInt("id");
+				else if(name.equals("entity")) {
+					entityName = get("name");
+					animations = new Array<>();
+					inEntity = true;
+				}
+				break;
+
+			case 3:
+				if(name.equals("file") && path.get(1).equals("folder"))
+					reader.loadAsset(project, atlas, folderId, getInt("id"), get("name"),
+							getFloat("pivot_x", 0f), getFloat("pivot_y", 1f),
+							getFloat("width", 0f), getFloat("height", 0f));
+				else if(name.equals("animation") && inEntity) {
+					//in spriter, you can place a key both at 0 and at the length for a total
+					// possible keys of length + 1,
+					//to handle this, we assume the actual length is +1 the one displayed in
+					// spriter
+					animationName = get("name");
+					animationLength = getInt("length") + 1;
+					looping = Boolean.parseBoolean(attributes.get("looping", "true"));
+					mainline = null;
+					timelines = new Array<>();
+					zIndices.clear();
+					inAnimation = true;
+				}
+				break;
+
+			case 4:
+				if(!inAnimation)
+					break;
+
+				if(name.equals("mainline")) {
+					if(mainline == null) {
+						mainline = new Mainline(0);
+						inMainline = true;
+					}
+				} else if(name.equals("timeline")) {
+					timelineId = getInt("id");
+					timelineName = get("name");
+					timelineKeys = new Array<>();
+					inTimeline = true;
+				}
+				break;
+
+			case 5:
+				if(!name.equals("key"))
+					break;
+
+				if(inMainline) {
+					mainlineKeyTime = getInt("time", 0);
+					mainlineKeyCurve = loadCurve();
+					boneRefs.clear();
+					objectRefs.clear();
+					inMainlineKey = true;
+				} else if(inTimeline) {
+					Curve curve = loadCurve();
+					timelineKeyId = getInt("id", -1);
+
+					if(timelineKeyId == -1)
+						throw new RuntimeException("Timeline key has no id");
+
+					timelineKey = new TimelineKey(getInt("time", 0), getInt("spin", 1), curve);
+					inTimelineKey = true;
+				}
+				break;
+
+			case 6:
+				if(inMainlineKey) {
+					if(name.equals("bone_ref"))
+						boneRefs.add(getInt("timeline"), getInt("key"), getInt("parent", -1));
+					else if(name.equals("object_ref"))
+						objectRefs.add(getInt("timeline"), getInt("key"), getInt("parent", -1),
+								getInt("z_index", 0));
+				} else if(inTimelineKey) {
+					loadObject(name); //each key tag contains a single object or bone tag
+					inTimelineKey = false;
+					timelineKeys.add(timelineKey);
+				}
+				break;
+		}
+	}
+
+	/**
+	 * Handles the end of the specified element
+	 *
+	 * @param name name of the element
+	 * @param depth depth of the element, 1 for the root
+	 */
+	private void end(String name, int depth) {
+		switch(depth) {
+			case 2:
+				if(inEntity && name.equals("entity")) {
+					project.getSourceEntities().add(new EntityData(entityName, animations));
+					inEntity = false;
+				}
+				break;
+
+			case 3:
+				if(inAnimation && name.equals("animation")) {
+					for(int i = 0; i < sprites.size; i++)
+						sprites.get(i).setZIndex(zIndices.get(spriteKeys.get(i * 2),
+								spriteKeys.get(i * 2 + 1), 0));
+
+					sprites.clear();
+					spriteKeys.clear();
+
+					animations.add(new AnimationData(animationName, animationLength, looping,
+							mainline, timelines));
+					inAnimation = false;
+				}
+				break;
+
+			case 4:
+				if(inMainline && name.equals("mainline"))
+					inMainline = false;
+				else if(inTimeline && name.equals("timeline")) {
+					timelines.add(new Timeline(timelineId, timelineName, timelineKeys));
+					inTimeline = false;
+				}
+				break;
+
+			case 5:
+				if(inMainlineKey) {
+					loadMainlineKey();
+					inMainlineKey = false;
+				} else if(inTimelineKey) {
+					timelineKeys.add(timelineKey);
+					inTimelineKey = false;
+				}
+				break;
+		}
+	}
+
+	private void loadMainlineKey() {
+		Array<ObjectRef> refs = new Array<>(boneRefs.size / 3 + objectRefs.size / 4);
+
+		for(int i = 0; i < boneRefs.size; i += 3) {
+			int parentId = boneRefs.get(i + 2);
+			ObjectRef parent = parentId != -1 ? refs.get(parentId) : null;
+
+			refs.add(new ObjectRef(boneRefs.get(i), boneRefs.get(i + 1), parent));
+		}
+
+		for(int i = 0; i < objectRefs.size; i += 4) {
+			int parentId = objectRefs.get(i + 2);
+			ObjectRef parent = parentId != -1 ? refs.get(parentId) : null;
+
+			refs.add(new ObjectRef(objectRefs.get(i), objectRefs.get(i + 1), parent));
+			zIndices.put(objectRefs.get(i), objectRefs.get(i + 1), objectRefs.get(i + 3));
+		}
+
+		mainline.getKeys().add(new MainlineKey(mainlineKeyTime, mainlineKeyCurve, refs));
+	}
+
+	/**
+	 * Sets the object of the current timeline key from the element of the specified type
+	 *
+	 * @param type name of the element, object or bone
+	 */
+	private void loadObject(String type) {
+		Vector2 position = new Vector2(getFloat("x", 0f), getFloat("y", 0f));
+		Vector2 scale = new Vector2(getFloat("scale_x", 1f), getFloat("scale_y", 1f));
+
+		float angle = getFloat("angle", 0f);
+		float alpha = getFloat("a", 1f);
+
+		if(type.equalsIgnoreCase("object") || type.equalsIgnoreCase("sprite")) {
+			TextureSpriteDrawable asset = project.getAsset(getInt("folder"), getInt("file"));
+
+			Sprite sprite = new Sprite(asset, position, scale, angle, alpha, 0);
+			timelineKey.setObject(sprite);
+			sprites.add(sprite);
+			spriteKeys.add(timelineId, timelineKeyId);
+		} else if(type.equalsIgnoreCase("bone"))
+			timelineKey.setObject(new AnimatedPart(position, scale, angle, alpha));
+	}
+
+	private Curve loadCurve() {
+		return reader.loadCurve(attributes.get("curve_type", "linear"),
+				getFloat("c1", 0f), getFloat("c2", 0f), getFloat("c3", 0f), getFloat("c4", 0f));
+	}
+
+	private String get(String name) {
+		String value = attributes.get(name);
+		if(value == null)
+			throw new GdxRuntimeException("Element " + path.peek()
+					+ " doesn't have attribute: " + name);
+		return value;
+	}
+
+	private int getInt(String name) {
+		return Integer.parseInt(get(name));
+	}
+
+	private int getInt(String name, int defaultValue) {
+		String value = attributes.get(name);
+		return value != null ? Integer.parseInt(value) : defaultValue;
+	}
+
+	private float getFloat(String name, float defaultValue) {
+		String value = attributes.get(name);
+		return value != null ? Float.parseFloat(value) : defaultValue;
+	}
+
+	/**
+	 * Returns the project built from the parsed file
+	 *
+	 * @return the parsed project
+	 */
+	public SCMLProject getProject() {
+		return project;
+	}
+}
@@ -0,0 +1,39 @@
+package com.winteralexander.gdx.animation.scml;
+
+import com.badlogic.gdx.utils.IntIntMap;
+import com.badlogic.gdx.utils.IntMap;
+
+/**
+ * Z-indexes of the sprite keys of an animation by timeline id and key id. Since zIndex are for
+ * timeline but stored in the mainline section of the xml, they need to be temporarily stored
+ * while loading. The maps of the timelines are kept when cleared so that they are reused by the
+ * next animation.
+ * <p>
+ * Created on 2026-10-18.
+ *
+ * @author Alexander Winter
+ */
+public class ZIndexMap {
+	private final IntMap<IntIntMap> timelines = new IntMap<>();
+
+	public void put(int timeline, int key, int zIndex) {
+		IntIntMap keys = timelines.get(timeline);
+
+		if(keys == null) {
+			keys = new IntIntMap();
+			timelines.put(timeline, keys);
+		}
+
+		keys.put(key, zIndex);
+	}
+
+	public int get(int timeline, int key, int defaultValue) {
+		IntIntMap keys = timelines.get(timeline);
+		return keys != null ? keys.get(key, defaultValue) : defaultValue;
+	}
+
+	public void clear() {
+		for(IntMap.Entry<IntIntMap> entry : timelines)
+			entry.value.clear();
+	}
+}
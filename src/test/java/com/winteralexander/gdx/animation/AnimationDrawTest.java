@@ -0,0 +1,126 @@
+package com.winteralexander.gdx.animation;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.winteralexander.gdx.animation.drawable.MultiSpriteDrawable;
+import com.winteralexander.gdx.animation.drawable.SpriteDrawable;
+import com.winteralexander.gdx.animation.drawable.TextureSpriteDrawable;
+import com.winteralexander.gdx.animation.drawable.TintedSpriteDrawable;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests that {@link Animation#draw(com.badlogic.gdx.graphics.g2d.Batch)} groups consecutive
+ * quads of the same texture into a single draw call, drawing the same quads as the drawables
+ * <p>
+ * Created on 2026-10-18.
+ *
+ * @author Alexander Winter
+ */
+public class AnimationDrawTest {
+	private static final float EPSILON = 0.001f;
+
+	private Texture textureA, textureB;
+	private TextureSpriteDrawable a, b;
+
+	@Before
+	public void setUp() {
+		textureA = TestTextures.create(64, 64);
+		textureB = TestTextures.create(64, 64);
+		a = new TextureSpriteDrawable(new TextureRegion(textureA, 0, 0, 16, 16), 0.5f, 0.5f);
+		b = new TextureSpriteDrawable(new TextureRegion(textureB, 0, 0, 32, 8), 0f, 1f);
+	}
+
+	@Test
+	public void textureRunsAreGrouped() {
+		Animation animation = createAnimation(a, a, b, b, b, a);
+		RecordingBatch batch = new RecordingBatch();
+
+		animation.draw(batch);
+
+		assertEquals(3, batch.getDraws().size);
+		assertEquals(2, batch.getTextureSwitches());
+		assertRun(batch.getDraws().get(0), textureA, 2);
+		assertRun(batch.getDraws().get(1), textureB, 3);
+		assertRun(batch.getDraws().get(2), textureA, 1);
+	}
+
+	@Test
+	public void flattenedDrawablesAreGrouped() {
+		SpriteDrawable multi = new MultiSpriteDrawable(a, new TintedSpriteDrawable(a, Color.RED));
+		Animation animation = createAnimation(a, multi, new TintedSpriteDrawable(b, Color.BLUE));
+		RecordingBatch batch = new RecordingBatch();
+
+		animation.draw(batch);
+
+		assertEquals(2, batch.getDraws().size);
+		assertRun(batch.getDraws().get(0), textureA, 3);
+		assertRun(batch.getDraws().get(1), textureB, 1);
+	}
+
+	@Test
+	public void groupedQuadsMatchDrawables() {
+		Animation animation = createAnimation(a, a, b, new TintedSpriteDrawable(a, Color.GREEN));
+		animation.getRoot().getPosition().set(40f, -20f);
+		animation.getRoot().setAngle(30f);
+		animation.getRoot().getScale().set(2f, -1.5f);
+		animation.update(0f);
+
+		RecordingBatch grouped = new RecordingBatch();
+		animation.draw(grouped);
+
+		// draws every sprite by itself, through the batch
+		RecordingBatch expected = new RecordingBatch();
+		for(Sprite sprite : animation.getSprites())
+			sprite.getDrawable().draw(sprite, expected);
+
+		assertEquals(animation.getSprites().size, grouped.getQuadCount());
+		assertEquals(expected.getQuadCount(), grouped.getQuadCount());
+		assertArrayEquals(concat(expected), concat(grouped), EPSILON);
+	}
+
+	@Test
+	public void drawablesWithoutCommandsBreakRuns() {
+		SpriteDrawable custom = (sprite, target) -> b.draw(sprite, target);
+		Animation animation = createAnimation(a, a, custom, a);
+		RecordingBatch batch = new RecordingBatch();
+
+		animation.draw(batch);
+
+		assertEquals(3, batch.getDraws().size);
+		assertRun(batch.getDraws().get(0), textureA, 2);
+		assertTrue(batch.getDraws().get(1).region);
+		assertSame(textureB, batch.getDraws().get(1).texture);
+		assertRun(batch.getDraws().get(2), textureA, 1);
+		assertEquals(Color.WHITE_FLOAT_BITS, batch.getPackedColor(), 0f);
+	}
+
+	static Animation createAnimation(SpriteDrawable... drawables) {
+		Animation animation = new Animation(TestAnimations.create("test", drawables));
+		animation.getRoot().setScale(1f);
+		animation.update(0f);
+		return animation;
+	}
+
+	static void assertRun(RecordingBatch.Draw draw, Texture texture, int quadCount) {
+		assertFalse(draw.region);
+		assertSame(texture, draw.texture);
+		assertEquals(quadCount, draw.getQuadCount());
+	}
+
+	private static float[] concat(RecordingBatch batch) {
+		float[] vertices = new float[0];
+
+		for(RecordingBatch.Draw draw : batch.getDraws()) {
+			float[] merged = new float[vertices.length + draw.vertices.length];
+			System.arraycopy(vertices, 0, merged, 0, vertices.length);
+			System.arraycopy(draw.vertices, 0, merged, vertices.length, draw.vertices.length);
+			vertices = merged;
+		}
+
+		return vertices;
+	}
+}
@@ -0,0 +1,82 @@
+package com.winteralexander.gdx.animation;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.winteralexander.gdx.animation.drawable.TextureSpriteDrawable;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests that the sprite overrides of an {@link Entity} apply whether its animations tween,
+ * snap to their keys or stay at their last key
+ * <p>
+ * Created on 2026-10-18.
+ *
+ * @author Alexander Winter
+ */
+public class EntityOverridesTest {
+	private TextureSpriteDrawable a, b, replacement;
+	private Entity entity;
+	private Animation animation;
+
+	@Before
+	public void setUp() {
+		a = new TextureSpriteDrawable(new TextureRegion(TestTextures.create(16, 16)), 0f, 0f);
+		b = new TextureSpriteDrawable(new TextureRegion(TestTextures.create(16, 16)), 0f, 0f);
+		replacement = new TextureSpriteDrawable(new TextureRegion(TestTextures.create(8, 8)),
+				0f, 0f);
+
+		Array<AnimationData> animations = new Array<>();
+		animations.add(TestAnimations.create("idle", a, b));
+
+		entity = new Entity(new EntityData("test", animations));
+		animation = entity.getAnimations().get(0);
+		animation.getRoot().setScale(1f);
+
+		entity.setSpriteEnabled("sprite0", false);
+		entity.setSpriteDrawable("sprite1", replacement);
+	}
+
+	@Test
+	public void overridesApplyWhenTweening() {
+		animation.update(0f);
+
+		assertOverridden();
+	}
+
+	@Test
+	public void overridesApplyWhenSnappedToKeys() {
+		animation.setSnapToKeys(true);
+		animation.update(0f);
+
+		assertOverridden();
+	}
+
+	@Test
+	public void overridesApplyAtLastKey() {
+		animation.setLooping(false);
+		animation.update(500f);
+
+		assertOverridden();
+	}
+
+	@Test
+	public void overridesApplyWithoutParts() {
+		animation.setUpdatingParts(false);
+		animation.setSnapToKeys(true);
+		animation.update(0f);
+
+		assertOverridden();
+	}
+
+	private void assertOverridden() {
+		Pose pose = animation.getPose();
+
+		assertFalse(pose.enabled[0]);
+		assertSame(a, pose.drawables[0]);
+		assertTrue(pose.enabled[1]);
+		assertSame(replacement, pose.drawables[1]);
+	}
+}
@@ -0,0 +1,83 @@
+package com.winteralexander.gdx.animation;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.winteralexander.gdx.animation.drawable.TextureSpriteDrawable;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.function.Consumer;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests that transformations set by name apply to every part of that name, like the indexes of
+ * {@link EntityData}, and that they can be set by id
+ * <p>
+ * Created on 2026-10-18.
+ *
+ * @author Alexander Winter
+ */
+public class EntityTransformationsTest {
+	private static final float EPSILON = 0.001f;
+
+	private final Consumer<AnimatedPart> moveRight = part -> part.getPosition().x += 100f;
+
+	private Entity entity;
+	private Animation animation;
+
+	@Before
+	public void setUp() {
+		TextureSpriteDrawable drawable = new TextureSpriteDrawable(
+				new TextureRegion(TestTextures.create(16, 16)), 0f, 0f);
+		AnimationData still = TestAnimations.create("idle", drawable, drawable, drawable);
+
+		// two timelines share the name of the arm
+		String[] names = { "arm", "arm", "head" };
+		Array<Timeline> timelines = new Array<>();
+		for(int i = 0; i < names.length; i++)
+			timelines.add(new Timeline(i, names[i], still.getTimelines().get(i).getKeys()));
+
+		Array<AnimationData> animations = new Array<>();
+		animations.add(new AnimationData("idle", still.getLength(), true, still.getMainline(),
+				timelines));
+
+		entity = new Entity(new EntityData("test", animations));
+		animation = entity.getAnimation(0);
+		animation.getRoot().setScale(1f);
+	}
+
+	@Test
+	public void partIdsMatchEntityParts() {
+		assertEquals(0, animation.getPartId("arm"));
+		assertArrayEquals(new int[] { 0, 1 }, animation.getPartIds("arm"));
+		assertArrayEquals(new int[] { 0, 0, 0, 1 }, entity.getData().getParts("arm"));
+		assertEquals(-1, animation.getPartId("leg"));
+		assertEquals(0, animation.getPartIds("leg").length);
+	}
+
+	@Test
+	public void namedTransformationAppliesToEveryPartOfThatName() {
+		entity.setTransformation("arm", moveRight);
+		animation.update(0f);
+
+		assertX(100f, 110f, 20f);
+
+		entity.setTransformation("arm", null);
+		assertFalse(animation.hasTransformations());
+	}
+
+	@Test
+	public void transformationCanBeSetById() {
+		entity.setTransformation(0, 2, moveRight);
+		animation.update(0f);
+
+		assertX(0f, 10f, 120f);
+		assertSame(moveRight, animation.getTransformation(2));
+	}
+
+	private void assertX(float... x) {
+		for(int i = 0; i < x.length; i++)
+			assertEquals(x[i], animation.getPose().x[i], EPSILON);
+	}
+}
@@ -0,0 +1,312 @@
+package com.winteralexander.gdx.animation;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Affine2;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Array;
+
+import java.util.Arrays;
+
+import static com.winteralexander.gdx.animation.drawable.TextureSpriteDrawable.QUAD_SIZE;
+
+/**
+ * Batch recording the quads drawn into it instead of rendering them. Quads of texture regions
+ * are computed as {@link com.badlogic.gdx.graphics.g2d.SpriteBatch} does. Only the draw methods
+ * used by animations are supported.
+ * <p>
+ * Created on 2026-10-18.
+ *
+ * @author Alexander Winter
+ */
+public class RecordingBatch implements Batch {
+	private final Color color = new Color(Color.WHITE);
+	private float packedColor = Color.WHITE_FLOAT_BITS;
+
+	private final Array<Draw> draws = new Array<>();
+
+	/**
+	 * A call to one of the draw methods of the batch
+	 */
+	public static class Draw {
+		public final Texture texture;
+		public final float[] vertices;
+		// true if drawn by region, false if drawn as an array of vertices
+		public final boolean region;
+
+		Draw(Texture texture, float[] vertices, boolean region) {
+			this.texture = texture;
+			this.vertices = vertices;
+			this.region = region;
+		}
+
+		public int getQuadCount() {
+			return vertices.length / QUAD_SIZE;
+		}
+	}
+
+	/**
+	 * @return the draw calls made on this batch, in order
+	 */
+	public Array<Draw> getDraws() {
+		return draws;
+	}
+
+	/**
+	 * Returns the amount of times the texture changed between two consecutive draw calls, each
+	 * of which flushes a {@link com.badlogic.gdx.graphics.g2d.SpriteBatch}
+	 *
+	 * @return amount of texture switches
+	 */
+	public int getTextureSwitches() {
+		int switches = 0;
+		for(int i = 1; i < draws.size; i++)
+			if(draws.get(i).texture != draws.get(i - 1).texture)
+				switches++;
+		return switches;
+	}
+
+	/**
+	 * @return amount of quads drawn into this batch
+	 */
+	public int getQuadCount() {
+		int count = 0;
+		for(Draw draw : draws)
+			count += draw.getQuadCount();
+		return count;
+	}
+
+	public void clear() {
+		draws.clear();
+	}
+
+	@Override
+	public void draw(Texture texture, float[] spriteVertices, int offset, int count) {
+		draws.add(new Draw(texture, Arrays.copyOfRange(spriteVertices, offset, offset + count),
+				false));
+	}
+
+	@Override
+	public void draw(TextureRegion region, float x, float y, float originX, float originY,
+	                 float width, float height, float scaleX, float scaleY, float rotation) {
+		// same as SpriteBatch
+		final float worldOriginX = x + originX;
+		final float worldOriginY = y + originY;
+		float fx = -originX;
+		float fy = -originY;
+		float fx2 = width - originX;
+		float fy2 = height - originY;
+
+		if(scaleX != 1 || scaleY != 1) {
+			fx *= scaleX;
+			fy *= scaleY;
+			fx2 *= scaleX;
+			fy2 *= scaleY;
+		}
+
+		float x1, y1, x2, y2, x3, y3, x4, y4;
+
+		if(rotation != 0) {
+			final float cos = MathUtils.cosDeg(rotation);
+			final float sin = MathUtils.sinDeg(rotation);
+
+			x1 = cos * fx - sin * fy;
+			y1 = sin * fx + cos * fy;
+			x2 = cos * fx - sin * fy2;
+			y2 = sin * fx + cos * fy2;
+			x3 = cos * fx2 - sin * fy2;
+			y3 = sin * fx2 + cos * fy2;
+			x4 = x1 + (x3 - x2);
+			y4 = y3 - (y2 - y1);
+		} else {
+			x1 = fx;
+			y1 = fy;
+			x2 = fx;
+			y2 = fy2;
+			x3 = fx2;
+			y3 = fy2;
+			x4 = fx2;
+			y4 = fy;
+		}
+
+		final float u = region.getU(), v = region.getV2();
+		final float u2 = region.getU2(), v2 = region.getV();
+		final float color = packedColor;
+
+		draws.add(new Draw(region.getTexture(), new float[] {
+				x1 + worldOriginX, y1 + worldOriginY, color, u, v,
+				x2 + worldOriginX, y2 + worldOriginY, color, u, v2,
+				x3 + worldOriginX, y3 + worldOriginY, color, u2, v2,
+				x4 + worldOriginX, y4 + worldOriginY, color, u2, v
+		}, true));
+	}
+
+	@Override
+	public void begin() {}
+
+	@Override
+	public void end() {}
+
+	@Override
+	public void setColor(Color tint) {
+		setColor(tint.r, tint.g, tint.b, tint.a);
+	}
+
+	@Override
+	public void setColor(float r, float g, float b, float a) {
+		color.set(r, g, b, a);
+		packedColor = color.toFloatBits();
+	}
+
+	@Override
+	public Color getColor() {
+		return color;
+	}
+
+	@Override
+	public void setPackedColor(float packedColor) {
+		Color.abgr8888ToColor(color, packedColor);
+		this.packedColor = packedColor;
+	}
+
+	@Override
+	public float getPackedColor() {
+		return packedColor;
+	}
+
+	@Override
+	public void draw(Texture texture, float x, float y, float originX, float originY,
+	                 float width, float height, float scaleX, float scaleY, float rotation,
+	                 int srcX, int srcY, int srcWidth, int srcHeight,
+	                 boolean flipX, boolean flipY) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void draw(Texture texture, float x, float y, float width, float height,
+	                 int srcX, int srcY, int srcWidth, int srcHeight,
+	                 boolean flipX, boolean flipY) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void draw(Texture texture, float x, float y,
+	                 int srcX, int srcY, int srcWidth, int srcHeight) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void draw(Texture texture, float x, float y, float width, float height,
+	                 float u, float v, float u2, float v2) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void draw(Texture texture, float x, float y) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void draw(Texture texture, float x, float y, float width, float height) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void draw(TextureRegion region, float x, float y) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void draw(TextureRegion region, float x, float y, float width, float height) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void draw(TextureRegion region, float x, float y, float originX, float originY,
+	                 float width, float height, float scaleX, float scaleY, float rotation,
+	                 boolean clockwise) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void draw(TextureRegion region, float width, float height, Affine2 transform) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void flush() {}
+
+	@Override
+	public void disableBlending() {}
+
+	@Override
+	public void enableBlending() {}
+
+	@Override
+	public void setBlendFunction(int srcFunc, int dstFunc) {}
+
+	@Override
+	public void setBlendFunctionSeparate(int srcFuncColor, int dstFuncColor,
+	                                     int srcFuncAlpha, int dstFuncAlpha) {}
+
+	@Override
+	public int getBlendSrcFunc() {
+		return 0;
+	}
+
+	@Override
+	public int getBlendDstFunc() {
+		return 0;
+	}
+
+	@Override
+	public int getBlendSrcFuncAlpha() {
+		return 0;
+	}
+
+	@Override
+	public int getBlendDstFuncAlpha() {
+		return 0;
+	}
+
+	@Override
+	public Matrix4 getProjectionMatrix() {
+		return null;
+	}
+
+	@Override
+	public Matrix4 getTransformMatrix() {
+		return null;
+	}
+
+	@Override
+	public void setProjectionMatrix(Matrix4 projection) {}
+
+	@Override
+	public void setTransformMatrix(Matrix4 transform) {}
+
+	@Override
+	public void setShader(ShaderProgram shader) {}
+
+	@Override
+	public ShaderProgram getShader() {
+		return null;
+	}
+
+	@Override
+	public boolean isBlendingEnabled() {
+		return true;
+	}
+
+	@Override
+	public boolean isDrawing() {
+		return true;
+	}
+
+	@Override
+	public void dispose() {}
+}
@@ -0,0 +1,184 @@
+package com.winteralexander.gdx.animation;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.winteralexander.gdx.animation.drawable.MultiSpriteDrawable;
+import com.winteralexander.gdx.animation.drawable.SpriteDrawable;
+import com.winteralexander.gdx.animation.drawable.TextureSpriteDrawable;
+import org.junit.Before;
+import org.junit.Test;
+
+import static com.winteralexander.gdx.animation.AnimationDrawTest.assertRun;
+import static com.winteralexander.gdx.animation.AnimationDrawTest.createAnimation;
+import static org.junit.Assert.*;
+
+/**
+ * Tests the draw calls and texture switches of a {@link RenderQueue} drawing many animations
+ * <p>
+ * Created on 2026-10-18.
+ *
+ * @author Alexander Winter
+ */
+public class RenderQueueTest {
+	private Texture textureA, textureB;
+	private TextureSpriteDrawable a, b;
+
+	private final RenderQueue queue = new RenderQueue();
+	private final RecordingBatch batch = new RecordingBatch();
+
+	@Before
+	public void setUp() {
+		textureA = TestTextures.create(64, 64);
+		textureB = TestTextures.create(64, 64);
+		a = new TextureSpriteDrawable(new TextureRegion(textureA, 0, 0, 16, 16), 0.5f, 0.5f);
+		b = new TextureSpriteDrawable(new TextureRegion(textureB, 0, 0, 16, 16), 0.5f, 0.5f);
+	}
+
+	@Test
+	public void sharedLayerGroupsTexturesOfAllAnimations() {
+		for(int i = 0; i < 3; i++)
+			queue.add(createAnimation(a, b), 0);
+
+		queue.flush(batch);
+
+		assertEquals(2, batch.getDraws().size);
+		assertEquals(1, batch.getTextureSwitches());
+		assertRun(batch.getDraws().get(0), textureA, 3);
+		assertRun(batch.getDraws().get(1), textureB, 3);
+		assertEquals(0, queue.size());
+	}
+
+	@Test
+	public void defaultLayersDrawAnimationsInOrder() {
+		for(int i = 0; i < 3; i++) {
+			Animation animation = createAnimation(a, b);
+			animation.getRoot().getPosition().x = i * 100f;
+			animation.update(0f);
+			queue.add(animation);
+		}
+
+		queue.flush(batch);
+
+		assertEquals(6, batch.getDraws().size);
+		assertEquals(5, batch.getTextureSwitches());
+
+		for(int i = 0; i < 6; i++) {
+			RecordingBatch.Draw draw = batch.getDraws().get(i);
+			assertRun(draw, i % 2 == 0 ? textureA : textureB, 1);
+			// x of the first vertex, each animation is 100 units right of the previous one
+			assertEquals(i / 2 * 100f, draw.vertices[0], 50f);
+		}
+	}
+
+	@Test
+	public void defaultLayerIsAboveExplicitLayers() {
+		queue.add(createAnimation(b), 7);
+		queue.add(createAnimation(a));
+		queue.add(createAnimation(b), -3);
+
+		queue.flush(batch);
+
+		assertEquals(2, batch.getDraws().size);
+		assertRun(batch.getDraws().get(0), textureB, 2);
+		assertRun(batch.getDraws().get(1), textureA, 1);
+	}
+
+	@Test
+	public void layersRestartAfterFlush() {
+		queue.add(createAnimation(a));
+		queue.add(createAnimation(a));
+		queue.flush(batch);
+		batch.clear();
+
+		queue.add(createAnimation(b), 1);
+		queue.add(createAnimation(a));
+		queue.flush(batch);
+
+		assertEquals(2, batch.getDraws().size);
+		assertRun(batch.getDraws().get(0), textureB, 1);
+		assertRun(batch.getDraws().get(1), textureA, 1);
+	}
+
+	@Test
+	public void drawablesWithoutCommandsAreDrawnInOrder() {
+		SpriteDrawable custom = (sprite, target) -> b.draw(sprite, target);
+
+		queue.setColor(new Color(1f, 0.5f, 0.5f, 1f));
+		for(int i = 0; i < 2; i++)
+			queue.add(createAnimation(a, custom, a), 0);
+
+		queue.flush(batch);
+
+		assertEquals(4, batch.getDraws().size);
+		assertEquals(2, batch.getTextureSwitches());
+		assertRun(batch.getDraws().get(0), textureA, 2);
+
+		for(int i = 1; i <= 2; i++) {
+			RecordingBatch.Draw draw = batch.getDraws().get(i);
+			assertTrue(draw.region);
+			assertSame(textureB, draw.texture);
+			assertEquals(queue.getColor().toFloatBits(), draw.vertices[2], 0f);
+		}
+
+		assertRun(batch.getDraws().get(3), textureA, 2);
+		assertEquals(Color.WHITE_FLOAT_BITS, batch.getPackedColor(), 0f);
+	}
+
+	@Test
+	public void multiDrawablesKeepTheOrderOfTheirChildren() {
+		Animation animation = createAnimation(b, new MultiSpriteDrawable(a, b));
+
+		RecordingBatch expected = new RecordingBatch();
+		animation.draw(expected);
+
+		queue.add(animation);
+		queue.flush(batch);
+
+		assertEquals(3, batch.getDraws().size);
+		assertRun(batch.getDraws().get(0), textureB, 1);
+		assertRun(batch.getDraws().get(1), textureA, 1);
+		assertRun(batch.getDraws().get(2), textureB, 1);
+
+		for(int i = 0; i < batch.getDraws().size; i++)
+			assertArrayEquals(expected.getDraws().get(i).vertices,
+					batch.getDraws().get(i).vertices, 0.001f);
+	}
+
+	@Test
+	public void sharedLayerKeepsTheOrderOfMultiDrawables() {
+		for(int i = 0; i < 2; i++)
+			queue.add(createAnimation(new MultiSpriteDrawable(b, a, b)), 0);
+
+		queue.flush(batch);
+
+		assertEquals(3, batch.getDraws().size);
+		assertRun(batch.getDraws().get(0), textureB, 2);
+		assertRun(batch.getDraws().get(1), textureA, 2);
+		assertRun(batch.getDraws().get(2), textureB, 2);
+	}
+
+	@Test
+	public void queueDrawsLikeAnimations() {
+		Animation first = createAnimation(a, b, a);
+		Animation second = createAnimation(b, b);
+		second.getRoot().setAngle(45f);
+		second.update(0f);
+
+		RecordingBatch expected = new RecordingBatch();
+		first.draw(expected);
+		second.draw(expected);
+
+		queue.add(first);
+		queue.add(second);
+		queue.flush(batch);
+
+		assertEquals(expected.getDraws().size, batch.getDraws().size);
+
+		for(int i = 0; i < batch.getDraws().size; i++) {
+			assertSame(expected.getDraws().get(i).texture, batch.getDraws().get(i).texture);
+			assertArrayEquals(expected.getDraws().get(i).vertices,
+					batch.getDraws().get(i).vertices, 0.001f);
+		}
+	}
+}
@@ -0,0 +1,50 @@
+package com.winteralexander.gdx.animation;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.winteralexander.gdx.animation.drawable.SpriteDrawable;
+import com.winteralexander.gdx.animation.math.Curve;
+import com.winteralexander.gdx.animation.math.Curve.CurveType;
+
+/**
+ * Builds animations for tests without loading an SCML file
+ * <p>
+ * Created on 2026-10-18.
+ *
+ * @author Alexander Winter
+ */
+public class TestAnimations {
+	private TestAnimations() {}
+
+	/**
+	 * Creates the data of a still animation drawing the given drawables one on top of the
+	 * other, the first one at the bottom. Each drawable is drawn by a sprite of its own, 10 units
+	 * to the right of the previous one.
+	 *
+	 * @param name name of the animation
+	 * @param drawables drawables of the sprites of the animation, in draw order
+	 * @return the data of the animation
+	 */
+	public static AnimationData create(String name, SpriteDrawable... drawables) {
+		Curve curve = new Curve(CurveType.LINEAR);
+		Array<ObjectRef> refs = new Array<>(drawables.length);
+		Array<Timeline> timelines = new Array<>(drawables.length);
+
+		for(int i = 0; i < drawables.length; i++) {
+			TimelineKey key = new TimelineKey(0, 1, curve);
+			key.setObject(new Sprite(drawables[i], new Vector2(i * 10f, 0f), new Vector2(1f, 1f),
+					0f, 1f, i));
+
+			Array<TimelineKey> keys = new Array<>(1);
+			keys.add(key);
+
+			timelines.add(new Timeline(i, "sprite" + i, keys));
+			refs.add(new ObjectRef(i, 0, null));
+		}
+
+		Mainline mainline = new Mainline(1);
+		mainline.getKeys().add(new MainlineKey(0, curve, refs));
+
+		return new AnimationData(name, 1000, true, mainline, timelines);
+	}
+}
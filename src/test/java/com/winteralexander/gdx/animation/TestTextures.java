@@ -0,0 +1,124 @@
+package com.winteralexander.gdx.animation;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+
+import java.lang.reflect.Proxy;
+
+/**
+ * Creates textures without an OpenGL context, for tests that only need distinct textures of a
+ * given size. {@link Gdx#gl} and {@link Gdx#graphics} are replaced by implementations doing
+ * nothing if they aren't set.
+ * <p>
+ * Created on 2026-10-18.
+ *
+ * @author Alexander Winter
+ */
+public class TestTextures {
+	private TestTextures() {}
+
+	/**
+	 * Creates a texture of the specified size which has no content
+	 *
+	 * @param width width of the texture
+	 * @param height height of the texture
+	 * @return the texture
+	 */
+	public static synchronized Texture create(int width, int height) {
+		if(Gdx.gl == null) {
+			Gdx.gl = stub(GL20.class);
+			Gdx.gl20 = Gdx.gl;
+		}
+
+		if(Gdx.graphics == null)
+			Gdx.graphics = stub(Graphics.class);
+
+		return new Texture(new EmptyTextureData(width, height));
+	}
+
+	/**
+	 * @param type interface to implement
+	 * @param <T> type of the interface
+	 * @return implementation of the interface returning the default value of every type
+	 */
+	private static <T> T stub(Class<T> type) {
+		return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+				(proxy, method, args) -> {
+					Class<?> result = method.getReturnType();
+
+					if(result == boolean.class)
+						return false;
+					if(result == int.class)
+						return 0;
+					if(result == long.class)
+						return 0L;
+					if(result == float.class)
+						return 0f;
+					return null;
+				}));
+	}
+
+	private static class EmptyTextureData implements TextureData {
+		private final int width, height;
+
+		EmptyTextureData(int width, int height) {
+			this.width = width;
+			this.height = height;
+		}
+
+		@Override
+		public TextureDataType getType() {
+			return TextureDataType.Custom;
+		}
+
+		@Override
+		public boolean isPrepared() {
+			return true;
+		}
+
+		@Override
+		public void prepare() {}
+
+		@Override
+		public Pixmap consumePixmap() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public boolean disposePixmap() {
+			return false;
+		}
+
+		@Override
+		public void consumeCustomData(int target) {}
+
+		@Override
+		public int getWidth() {
+			return width;
+		}
+
+		@Override
+		public int getHeight() {
+			return height;
+		}
+
+		@Override
+		public Pixmap.Format getFormat() {
+			return Pixmap.Format.RGBA8888;
+		}
+
+		@Override
+		public boolean useMipMaps() {
+			return false;
+		}
+
+		@Override
+		public boolean isManaged() {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,94 @@
+package com.winteralexander.gdx.animation.drawable;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.winteralexander.gdx.animation.TestTextures;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests that the {@link DrawCommands} of nested drawables hold the product of their tints and
+ * are compiled again when one of the nested drawables changes
+ * <p>
+ * Created on 2026-10-18.
+ *
+ * @author Alexander Winter
+ */
+public class DrawCommandsTest {
+	private static final float EPSILON = 0.0001f;
+
+	private TextureSpriteDrawable a, b;
+
+	@Before
+	public void setUp() {
+		a = new TextureSpriteDrawable(new TextureRegion(TestTextures.create(16, 16)), 0f, 0f);
+		b = new TextureSpriteDrawable(new TextureRegion(TestTextures.create(16, 16)), 0f, 0f);
+	}
+
+	@Test
+	public void nestedTintsAreMultiplied() {
+		TintedSpriteDrawable inner = new TintedSpriteDrawable(a, new Color(0.5f, 1f, 1f, 0.5f));
+		MultiSpriteDrawable multi = new MultiSpriteDrawable(inner, b);
+		TintedSpriteDrawable outer = new TintedSpriteDrawable(multi, new Color(1f, 0.5f, 1f, 0.5f));
+
+		DrawCommands commands = outer.getDrawCommands();
+
+		assertEquals(2, commands.size());
+		assertSame(a, commands.getDrawable(0));
+		assertTint(commands, 0, 0.5f, 0.5f, 1f, 0.25f);
+		assertSame(b, commands.getDrawable(1));
+		assertTint(commands, 1, 1f, 0.5f, 1f, 0.5f);
+		assertSame(commands, outer.getDrawCommands());
+	}
+
+	@Test
+	public void settingColorInvalidatesContainingDrawables() {
+		TintedSpriteDrawable inner = new TintedSpriteDrawable(a, Color.WHITE);
+		MultiSpriteDrawable multi = new MultiSpriteDrawable(b, inner);
+		TintedSpriteDrawable outer = new TintedSpriteDrawable(multi, Color.WHITE);
+		outer.getDrawCommands();
+
+		inner.setColor(new Color(0.25f, 1f, 1f, 1f));
+
+		assertTint(outer.getDrawCommands(), 1, 0.25f, 1f, 1f, 1f);
+		assertTint(outer.getDrawCommands(), 0, 1f, 1f, 1f, 1f);
+	}
+
+	@Test
+	public void settingDrawableInvalidatesContainingDrawables() {
+		MultiSpriteDrawable multi = new MultiSpriteDrawable(a, a);
+		TintedSpriteDrawable outer = new TintedSpriteDrawable(multi, Color.RED);
+		outer.getDrawCommands();
+
+		TintedSpriteDrawable replacement = new TintedSpriteDrawable(b, Color.BLUE);
+		multi.setDrawable(1, replacement);
+
+		assertSame(b, outer.getDrawCommands().getDrawable(1));
+		assertTint(outer.getDrawCommands(), 1, 0f, 0f, 0f, 1f);
+
+		replacement.setColor(Color.WHITE);
+		assertTint(outer.getDrawCommands(), 1, 1f, 0f, 0f, 1f);
+	}
+
+	@Test
+	public void modifyingColorCopyChangesNothing() {
+		TintedSpriteDrawable tinted = new TintedSpriteDrawable(a, Color.WHITE);
+		DrawCommands commands = tinted.getDrawCommands();
+
+		tinted.getColor().set(Color.BLACK);
+
+		assertSame(commands, tinted.getDrawCommands());
+		assertTint(commands, 0, 1f, 1f, 1f, 1f);
+		assertEquals(Color.WHITE, tinted.getColor());
+	}
+
+	private static void assertTint(DrawCommands commands, int index,
+	                               float red, float green, float blue, float alpha) {
+		assertEquals(red, commands.getRed(index), EPSILON);
+		assertEquals(green, commands.getGreen(index), EPSILON);
+		assertEquals(blue, commands.getBlue(index), EPSILON);
+		assertEquals(alpha, commands.getAlpha(index), EPSILON);
+	}
+}
@@ -0,0 +1,130 @@
+package com.winteralexander.gdx.animation.drawable;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.winteralexander.gdx.animation.RecordingBatch;
+import com.winteralexander.gdx.animation.TestTextures;
+import org.junit.Before;
+import org.junit.Test;
+
+import static com.winteralexander.gdx.animation.drawable.TextureSpriteDrawable.QUAD_SIZE;
+import static org.junit.Assert.*;
+
+/**
+ * Tests that {@link TextureSpriteDrawable#computeVertices} gives the quad
+ * {@link com.badlogic.gdx.graphics.g2d.SpriteBatch} draws for the same transform
+ * <p>
+ * Created on 2026-10-18.
+ *
+ * @author Alexander Winter
+ */
+public class TextureSpriteDrawableTest {
+	private static final float EPSILON = 0.001f;
+
+	private TextureRegion region;
+
+	@Before
+	public void setUp() {
+		Texture texture = TestTextures.create(256, 128);
+		region = new TextureRegion(texture, 32, 16, 64, 48);
+	}
+
+	@Test
+	public void untransformedQuadMatchesSpriteBatch() {
+		TextureSpriteDrawable drawable = new TextureSpriteDrawable(region, 0f, 0f);
+
+		assertSameQuad(drawable, 0f, 0f, 1f, 1f, 0f);
+		assertSameQuad(drawable, 12.5f, -40f, 1f, 1f, 0f);
+	}
+
+	@Test
+	public void rotatedQuadMatchesSpriteBatch() {
+		TextureSpriteDrawable drawable = new TextureSpriteDrawable(region, 0.5f, 0.5f);
+
+		assertSameQuad(drawable, 100f, 50f, 1f, 1f, 33f);
+		assertSameQuad(drawable, 100f, 50f, 1f, 1f, -120f);
+		assertSameQuad(drawable, -7f, 3f, 1f, 1f, 270f);
+	}
+
+	@Test
+	public void scaledQuadMatchesSpriteBatch() {
+		TextureSpriteDrawable drawable = new TextureSpriteDrawable(region, 0.5f, 0.5f);
+
+		assertSameQuad(drawable, 10f, 20f, 2f, 0.5f, 0f);
+		assertSameQuad(drawable, 10f, 20f, 0.25f, 3f, 45f);
+	}
+
+	@Test
+	public void flippedQuadMatchesSpriteBatch() {
+		TextureSpriteDrawable drawable = new TextureSpriteDrawable(region, 0.3f, 0.6f);
+
+		assertSameQuad(drawable, 10f, 20f, -1f, 1f, 0f);
+		assertSameQuad(drawable, 10f, 20f, 1f, -1f, 15f);
+		assertSameQuad(drawable, 10f, 20f, -2f, -0.5f, 200f);
+
+		TextureRegion flipped = new TextureRegion(region);
+		flipped.flip(true, true);
+		assertSameQuad(new TextureSpriteDrawable(flipped, 0.3f, 0.6f), 10f, 20f, 1.5f, 1f, 60f);
+	}
+
+	@Test
+	public void pivotedQuadMatchesSpriteBatch() {
+		float[][] pivots = { { 0f, 1f }, { 1f, 0f }, { 1f, 1f }, { 0.25f, 0.8f }, { -0.5f, 1.5f } };
+
+		for(float[] pivot : pivots) {
+			TextureSpriteDrawable drawable = new TextureSpriteDrawable(region, pivot[0], pivot[1]);
+
+			assertSameQuad(drawable, 0f, 0f, 1f, 1f, 0f);
+			assertSameQuad(drawable, 30f, -15f, 1.5f, 0.75f, 72f);
+		}
+	}
+
+	@Test
+	public void sizedQuadMatchesSpriteBatch() {
+		TextureSpriteDrawable drawable = new TextureSpriteDrawable(region, 0.5f, 0f, 100f, 20f);
+
+		assertSameQuad(drawable, 5f, 5f, 1f, 1f, 0f);
+		assertSameQuad(drawable, 5f, 5f, -1f, 2f, 135f);
+	}
+
+	@Test
+	public void quadIsWrittenAtOffset() {
+		TextureSpriteDrawable drawable = new TextureSpriteDrawable(region, 0.5f, 0.5f);
+		float[] expected = new float[QUAD_SIZE];
+		float[] vertices = new float[QUAD_SIZE * 3];
+
+		assertTrue(drawable.computeVertices(expected, 0, 1f, 2f, 3f, 4f, 5f, 6f));
+		assertTrue(drawable.computeVertices(vertices, QUAD_SIZE, 1f, 2f, 3f, 4f, 5f, 6f));
+
+		for(int i = 0; i < QUAD_SIZE; i++) {
+			assertEquals(0f, vertices[i], 0f);
+			assertEquals(expected[i], vertices[QUAD_SIZE + i], 0f);
+			assertEquals(0f, vertices[QUAD_SIZE * 2 + i], 0f);
+		}
+	}
+
+	@Test
+	public void drawableWithoutRegionWritesNothing() {
+		TextureSpriteDrawable drawable = new TextureSpriteDrawable(null, 0.5f, 0.5f, 10f, 10f);
+		float[] vertices = new float[QUAD_SIZE];
+
+		assertFalse(drawable.computeVertices(vertices, 0, 1f, 2f, 1f, 1f, 0f, 1f));
+		assertArrayEquals(new float[QUAD_SIZE], vertices, 0f);
+	}
+
+	private static void assertSameQuad(TextureSpriteDrawable drawable,
+	                                   float x, float y, float scaleX, float scaleY,
+	                                   float angle) {
+		RecordingBatch batch = new RecordingBatch();
+		drawable.draw(batch, x, y, scaleX, scaleY, angle, 1f);
+
+		assertEquals(1, batch.getDraws().size);
+		float[] expected = batch.getDraws().get(0).vertices;
+
+		float[] vertices = new float[QUAD_SIZE];
+		assertTrue(drawable.computeVertices(vertices, 0, x, y, scaleX, scaleY, angle,
+				batch.getPackedColor()));
+
+		assertArrayEquals(expected, vertices, EPSILON);
+	}
+}